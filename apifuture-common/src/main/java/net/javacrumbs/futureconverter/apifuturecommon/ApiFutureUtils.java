@@ -15,16 +15,15 @@
  */
 package net.javacrumbs.futureconverter.apifuturecommon;
 
+import com.google.api.core.AbstractApiFuture;
 import com.google.api.core.ApiFuture;
-import com.google.api.core.ApiFutureCallback;
-import com.google.api.core.ApiFutures;
-import com.google.common.util.concurrent.MoreExecutors;
-import net.javacrumbs.futureconverter.common.internal.FutureWrapper;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.MultiplexingFutureWrapper;
 import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
 
 import java.util.concurrent.Executor;
-import java.util.function.Consumer;
 
 
 public class ApiFutureUtils {
@@ -33,17 +32,21 @@ public class ApiFutureUtils {
     /**
      * Creates api future from ValueSourceFuture. We have to send all Future API calls to ValueSourceFuture.
      */
+    @SuppressWarnings("unchecked")
     public static <T> ApiFuture<T> createApiFuture(ValueSourceFuture<T> valueSourceFuture) {
-        if (valueSourceFuture instanceof ApiFutureBackedValueSourceFuture) {
-            return ((ApiFutureBackedValueSourceFuture<T>) valueSourceFuture).getWrappedFuture();
+        ApiFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSourceFuture, ApiFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceFutureBackedApiFuture<>(valueSourceFuture);
         }
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ApiFuture<T> createApiFuture(ValueSource<T> valueSource) {
-        if (valueSource instanceof ApiFutureBackedValueSourceFuture) {
-            return ((ApiFutureBackedValueSourceFuture<T>) valueSource).getWrappedFuture();
+        ApiFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSource, ApiFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceBackedApiFuture<>(valueSource);
         }
@@ -51,53 +54,64 @@ public class ApiFutureUtils {
 
     /**
      * If we have ValueSourceFuture, we can use it as the implementation and this class only converts
-     * listener registration.
+     * listener registration. Only one listener is registered on the ValueSourceFuture no matter how many
+     * listeners are added.
      */
-    private static class ValueSourceFutureBackedApiFuture<T> extends FutureWrapper<T> implements ApiFuture<T> {
+    private static class ValueSourceFutureBackedApiFuture<T> extends MultiplexingFutureWrapper<T> implements ApiFuture<T> {
         ValueSourceFutureBackedApiFuture(ValueSourceFuture<T> valueSourceFuture) {
             super(valueSourceFuture);
         }
 
         @Override
         protected ValueSourceFuture<T> getWrappedFuture() {
-            return (ValueSourceFuture<T>) super.getWrappedFuture();
-        }
-
-        @Override
-        public void addListener(Runnable listener, Executor executor) {
-            getWrappedFuture().addCallbacks(value -> executor.execute(listener), ex -> executor.execute(listener));
+            return super.getWrappedFuture();
         }
     }
 
 
     /**
-     * If we only get ValueSource we have to create a ValueSourceFuture. Here we wrap Guavas SettableFuture
+     * If we only get ValueSource we have to create a ValueSourceFuture. We extend api-common AbstractApiFuture
      * and use it for listener handling and value storage.
      */
-    private static class ValueSourceBackedApiFuture<T> extends FutureWrapper<T> implements ApiFuture<T> {
+    private static class ValueSourceBackedApiFuture<T> extends AbstractApiFuture<T> implements ValueSource.Listener<T> {
         private final ValueSource<T> valueSource;
 
         private ValueSourceBackedApiFuture(ValueSource<T> valueSource) {
-            super(com.google.common.util.concurrent.SettableFuture.create());
             this.valueSource = valueSource;
-            valueSource.addCallbacks(value -> getWrappedFuture().set(value), ex -> getWrappedFuture().setException(ex));
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    set(valueSource.getValue());
+                    break;
+                case FAILURE:
+                    setException(valueSource.getFailure());
+                    break;
+                case CANCELLED:
+                    super.cancel(false);
+                    break;
+                default:
+                    valueSource.addListener(this);
+            }
         }
 
         @Override
-        public void addListener(Runnable listener, Executor executor) {
-            getWrappedFuture().addListener(listener, executor);
+        public void onSuccess(T value) {
+            set(value);
         }
 
         @Override
-        protected com.google.common.util.concurrent.SettableFuture<T> getWrappedFuture() {
-            return (com.google.common.util.concurrent.SettableFuture<T>) super.getWrappedFuture();
+        public void onFailure(Throwable failure) {
+            setException(failure);
         }
 
-
         @Override
         public boolean cancel(boolean mayInterruptIfRunning) {
-            valueSource.cancel(mayInterruptIfRunning);
-            return super.cancel(mayInterruptIfRunning);
+            // cancel first, the value source may complete us while being cancelled
+            if (super.cancel(mayInterruptIfRunning)) {
+                valueSource.cancel(mayInterruptIfRunning);
+                return true;
+            } else {
+                return false;
+            }
         }
 
         private ValueSource<T> getValueSource() {
@@ -108,46 +122,62 @@ public class ApiFutureUtils {
 
     // *************************************** Converting from ApiFuture ******************************************
     public static <T> ValueSourceFuture<T> createValueSourceFuture(ApiFuture<T> apiFuture) {
+        return createValueSourceFuture(apiFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(ApiFuture<T> apiFuture, Executor executor) {
         if (apiFuture instanceof ValueSourceFutureBackedApiFuture) {
-            return ((ValueSourceFutureBackedApiFuture<T>) apiFuture).getWrappedFuture();
+            return ExecutorValueSourceFuture.wrap(((ValueSourceFutureBackedApiFuture<T>) apiFuture).getWrappedFuture(), executor);
+        } else if (apiFuture instanceof ValueSourceBackedApiFuture &&
+            ((ValueSourceBackedApiFuture<T>) apiFuture).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedApiFuture<T>) apiFuture).getValueSource(), executor);
         } else {
-            return new ApiFutureBackedValueSourceFuture<>(apiFuture);
+            return new ApiFutureBackedValueSourceFuture<>(apiFuture, executor);
         }
     }
 
     public static <T> ValueSource<T> createValueSource(ApiFuture<T> apiFuture) {
-        if (apiFuture instanceof ValueSourceBackedApiFuture) {
-            return ((ValueSourceBackedApiFuture<T>) apiFuture).getValueSource();
-        } else {
-            return new ApiFutureBackedValueSourceFuture<>(apiFuture);
-        }
+        return createValueSource(apiFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(ApiFuture<T> apiFuture, Executor executor) {
+        // ValueSource of ValueSourceBackedApiFuture is returned only if it's a Future, other value sources
+        // (RxJava Single) may not support more listeners. We can still get to them using getRoot().
+        return createValueSourceFuture(apiFuture, executor);
     }
 
     /**
      * Wraps ApiFuture and exposes it as ValueSourceFuture.
      */
     private static class ApiFutureBackedValueSourceFuture<T> extends ValueSourceFuture<T> {
-        private ApiFutureBackedValueSourceFuture(ApiFuture<T> wrappedFuture) {
+        private final Executor executor;
+
+        private ApiFutureBackedValueSourceFuture(ApiFuture<T> wrappedFuture, Executor executor) {
             super(wrappedFuture);
+            this.executor = executor;
         }
 
         @Override
-        public void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
-            ApiFutures.addCallback(getWrappedFuture(), new ApiFutureCallback<T>() {
-                @Override
-                public void onSuccess(T result) {
-                    successCallback.accept(result);
-                }
-
-                @Override
-                public void onFailure(Throwable t) {
-                    failureCallback.accept(t);
-
-                }
-            }, MoreExecutors.directExecutor());
+        public void addListener(Listener<T> listener) {
+            getWrappedFuture().addListener(() -> notifyListener(listener), executor);
         }
 
 
+        @Override
+        public ValueSource<T> getRoot() {
+            if (getWrappedFuture() instanceof ValueSourceBackedApiFuture) {
+                return ((ValueSourceBackedApiFuture<T>) getWrappedFuture()).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
         @Override
         protected ApiFuture<T> getWrappedFuture() {
             return (ApiFuture<T>) super.getWrappedFuture();
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.apifutureguava;
+
+import com.google.api.core.ApiFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Converts between {@link com.google.api.core.ApiFuture} and Guava {@link com.google.common.util.concurrent.ListenableFuture}.
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link ApiFuture} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(ApiFuture<T> apiFuture) {
+        return GuavaFutureUtils.createListenableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture));
+    }
+
+    /**
+     * Converts {@link ApiFuture} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(ApiFuture<T> apiFuture, Executor executor) {
+        return GuavaFutureUtils.createListenableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture, executor));
+    }
+
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to {@link ApiFuture}.
+     */
+    public static <T> ApiFuture<T> toApiFuture(ListenableFuture<T> listenableFuture) {
+        return ApiFutureUtils.createApiFuture(GuavaFutureUtils.createValueSourceFuture(listenableFuture));
+    }
+
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to {@link ApiFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ApiFuture<T> toApiFuture(ListenableFuture<T> listenableFuture, Executor executor) {
+        return ApiFutureUtils.createApiFuture(GuavaFutureUtils.createValueSourceFuture(listenableFuture, executor));
+    }
+}
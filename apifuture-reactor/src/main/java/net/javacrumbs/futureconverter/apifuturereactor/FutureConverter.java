@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.apifuturereactor;
+
+import com.google.api.core.ApiFuture;
+import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
+import net.javacrumbs.futureconverter.reactorcommon.ReactorFutureUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Converts between {@link com.google.api.core.ApiFuture} and Reactor {@link reactor.core.publisher.Mono}
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link com.google.api.core.ApiFuture} to {@link reactor.core.publisher.Mono}.
+     * The original future is canceled when the subscription is cancelled.
+     */
+    public static <T> Mono<T> toMono(ApiFuture<T> apiFuture) {
+        return ReactorFutureUtils.createMono(ApiFutureUtils.createValueSource(apiFuture));
+    }
+
+    /**
+     * Converts {@link com.google.api.core.ApiFuture} to {@link reactor.core.publisher.Mono}.
+     * The original future is canceled when the subscription is cancelled.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Mono<T> toMono(ApiFuture<T> apiFuture, Executor executor) {
+        return ReactorFutureUtils.createMono(ApiFutureUtils.createValueSource(apiFuture, executor));
+    }
+
+    /**
+     * Converts {@link reactor.core.publisher.Mono} to {@link com.google.api.core.ApiFuture}.
+     */
+    public static <T> ApiFuture<T> toApiFuture(Mono<T> mono) {
+        return ApiFutureUtils.createApiFuture(ReactorFutureUtils.createValueSource(mono));
+    }
+
+    /**
+     * Converts {@link reactor.core.publisher.Mono} to {@link com.google.api.core.ApiFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ApiFuture<T> toApiFuture(Mono<T> mono, Executor executor) {
+        return ApiFutureUtils.createApiFuture(ReactorFutureUtils.createValueSource(mono, executor));
+    }
+}
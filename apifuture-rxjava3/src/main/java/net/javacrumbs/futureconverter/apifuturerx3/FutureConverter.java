@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.apifuturerx3;
+
+import com.google.api.core.ApiFuture;
+import io.reactivex.rxjava3.core.Single;
+import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
+import net.javacrumbs.futureconverter.rxjava3common.RxJava3FutureUtils;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Converts between {@link com.google.api.core.ApiFuture} and RxJava 3 {@link io.reactivex.rxjava3.core.Single}.
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link ApiFuture} to {@link io.reactivex.rxjava3.core.Single}.
+     * The original future is canceled upon unsubscribe.
+     */
+    public static <T> Single<T> toSingle(ApiFuture<T> apiFuture) {
+        return RxJava3FutureUtils.createSingle(ApiFutureUtils.createValueSource(apiFuture));
+    }
+
+    /**
+     * Converts {@link ApiFuture} to {@link io.reactivex.rxjava3.core.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ApiFuture<T> apiFuture, Executor executor) {
+        return RxJava3FutureUtils.createSingle(ApiFutureUtils.createValueSource(apiFuture, executor));
+    }
+
+    /**
+     * Converts {@link io.reactivex.rxjava3.core.Single} to {@link ApiFuture}.
+     */
+    public static <T> ApiFuture<T> toApiFuture(Single<T> single) {
+        return ApiFutureUtils.createApiFuture(RxJava3FutureUtils.createValueSource(single));
+    }
+
+    /**
+     * Converts {@link io.reactivex.rxjava3.core.Single} to {@link ApiFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ApiFuture<T> toApiFuture(Single<T> single, Executor executor) {
+        return ApiFutureUtils.createApiFuture(RxJava3FutureUtils.createValueSource(single, executor));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.apifuturerx3;
+
+import com.google.api.core.ApiFuture;
+import io.reactivex.rxjava3.core.Single;
+import net.javacrumbs.futureconverter.common.test.apicommon.ApiCommonConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.rxjava3.AbstractSingleToFutureConverterTest;
+
+public class ToApiFutureConverterTest extends AbstractSingleToFutureConverterTest<ApiFuture<String>> {
+
+    public ToApiFutureConverterTest() {
+        super(new ApiCommonConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected ApiFuture<String> toFuture(Single<String> single) {
+        return FutureConverter.toApiFuture(single);
+    }
+
+    @Override
+    protected Single<String> toSingle(ApiFuture<String> future) {
+        return FutureConverter.toSingle(future);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.apifuturespring;
+
+import com.google.api.core.ApiFuture;
+import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
+import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Converts between {@link com.google.api.core.ApiFuture} and Spring 4 {@link org.springframework.util.concurrent.ListenableFuture}.
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link ApiFuture} to {@link org.springframework.util.concurrent.ListenableFuture}.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(ApiFuture<T> apiFuture) {
+        return SpringFutureUtils.createListenableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture));
+    }
+
+    /**
+     * Converts {@link ApiFuture} to {@link org.springframework.util.concurrent.ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(ApiFuture<T> apiFuture, Executor executor) {
+        return SpringFutureUtils.createListenableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture, executor));
+    }
+
+    /**
+     * Converts {@link org.springframework.util.concurrent.ListenableFuture} to {@link ApiFuture}.
+     */
+    public static <T> ApiFuture<T> toApiFuture(ListenableFuture<T> listenableFuture) {
+        return ApiFutureUtils.createApiFuture(SpringFutureUtils.createValueSourceFuture(listenableFuture));
+    }
+
+    /**
+     * Converts {@link org.springframework.util.concurrent.ListenableFuture} to {@link ApiFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ApiFuture<T> toApiFuture(ListenableFuture<T> listenableFuture, Executor executor) {
+        return ApiFutureUtils.createApiFuture(SpringFutureUtils.createValueSourceFuture(listenableFuture, executor));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Common settings of all converter benchmarks. Every pair benchmark measures three scenarios in both directions
+ * <ul>
+ *     <li><i>completed</i> - the source is already completed when converted</li>
+ *     <li><i>pending</i> - the source is converted first and then completed from another thread, the caller waits for the result</li>
+ *     <li><i>roundTrip</i> - the source is converted and converted back, which should hit the unwrapping fast paths</li>
+ * </ul>
+ * Run with <code>java -jar benchmarks/target/benchmarks.jar -prof gc</code> to get allocation numbers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractConverterBenchmark {
+    protected static final String VALUE = "value";
+
+    /**
+     * Thread used to complete pending sources.
+     */
+    @State(Scope.Benchmark)
+    public static class Completer {
+        private ExecutorService executor;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            executor = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "benchmark-completer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            executor.shutdownNow();
+        }
+
+        public void complete(Runnable completion) {
+            executor.execute(completion);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static net.javacrumbs.futureconverter.apifutureguava.FutureConverter.toListenableFuture;
+import static net.javacrumbs.futureconverter.apifutureguava.FutureConverter.toApiFuture;
+
+/**
+ * Benchmarks apifuture-guava conversions.
+ */
+public class ApiFutureGuavaBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(ApiFutures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        ListenableFuture<String> converted = toListenableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ApiFuture<String> toListenableFutureRoundTrip() {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        return toApiFuture(toListenableFuture(source));
+    }
+
+    @Benchmark
+    public ApiFuture<String> toApiFutureCompleted() {
+        return toApiFuture(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toApiFuturePending(Completer completer) throws Exception {
+        SettableFuture<String> source = SettableFuture.create();
+        ApiFuture<String> converted = toApiFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toApiFutureRoundTrip() {
+        SettableFuture<String> source = SettableFuture.create();
+        return toListenableFuture(toApiFuture(source));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static net.javacrumbs.futureconverter.apifuturereactor.FutureConverter.toMono;
+import static net.javacrumbs.futureconverter.apifuturereactor.FutureConverter.toApiFuture;
+
+/**
+ * Benchmarks apifuture-reactor conversions.
+ */
+public class ApiFutureReactorBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Mono<String> toMonoCompleted() {
+        return toMono(ApiFutures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toMonoPending(Completer completer) throws Exception {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        Mono<String> converted = toMono(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.block();
+    }
+
+    @Benchmark
+    public ApiFuture<String> toMonoRoundTrip() {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        return toApiFuture(toMono(source));
+    }
+
+    @Benchmark
+    public ApiFuture<String> toApiFutureCompleted() {
+        return toApiFuture(Mono.just(VALUE));
+    }
+
+    @Benchmark
+    public String toApiFuturePending(Completer completer) throws Exception {
+        Sinks.One<String> source = Sinks.one();
+        ApiFuture<String> converted = toApiFuture(source.asMono());
+        completer.complete(() -> source.tryEmitValue(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Mono<String> toApiFutureRoundTrip() {
+        Sinks.One<String> source = Sinks.one();
+        return toMono(toApiFuture(source.asMono()));
+    }
+}
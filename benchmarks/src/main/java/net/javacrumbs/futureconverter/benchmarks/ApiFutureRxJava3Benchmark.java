@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static net.javacrumbs.futureconverter.apifuturerx3.FutureConverter.toSingle;
+import static net.javacrumbs.futureconverter.apifuturerx3.FutureConverter.toApiFuture;
+
+/**
+ * Benchmarks apifuture-rxjava3 conversions.
+ */
+public class ApiFutureRxJava3Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Single<String> toSingleCompleted() {
+        return toSingle(ApiFutures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toSinglePending(Completer completer) throws Exception {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        Single<String> converted = toSingle(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.blockingGet();
+    }
+
+    @Benchmark
+    public ApiFuture<String> toSingleRoundTrip() {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        return toApiFuture(toSingle(source));
+    }
+
+    @Benchmark
+    public ApiFuture<String> toApiFutureCompleted() {
+        return toApiFuture(Single.just(VALUE));
+    }
+
+    @Benchmark
+    public String toApiFuturePending(Completer completer) throws Exception {
+        SingleSubject<String> source = SingleSubject.create();
+        ApiFuture<String> converted = toApiFuture(source);
+        completer.complete(() -> source.onSuccess(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Single<String> toApiFutureRoundTrip() {
+        SingleSubject<String> source = SingleSubject.create();
+        return toSingle(toApiFuture(source));
+    }
+}
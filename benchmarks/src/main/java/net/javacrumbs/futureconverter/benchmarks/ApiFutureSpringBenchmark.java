@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import static net.javacrumbs.futureconverter.apifuturespring.FutureConverter.toListenableFuture;
+import static net.javacrumbs.futureconverter.apifuturespring.FutureConverter.toApiFuture;
+
+/**
+ * Benchmarks apifuture-spring conversions.
+ */
+public class ApiFutureSpringBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(ApiFutures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        ListenableFuture<String> converted = toListenableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ApiFuture<String> toListenableFutureRoundTrip() {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        return toApiFuture(toListenableFuture(source));
+    }
+
+    @Benchmark
+    public ApiFuture<String> toApiFutureCompleted() {
+        return toApiFuture(completedListenableFuture());
+    }
+
+    @Benchmark
+    public String toApiFuturePending(Completer completer) throws Exception {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        ApiFuture<String> converted = toApiFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toApiFutureRoundTrip() {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        return toListenableFuture(toApiFuture(source));
+    }
+
+    private static ListenableFuture<String> completedListenableFuture() {
+        SettableListenableFuture<String> future = new SettableListenableFuture<>();
+        future.set(VALUE);
+        return future;
+    }
+}
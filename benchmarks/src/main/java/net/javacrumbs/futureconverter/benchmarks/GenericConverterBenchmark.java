@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import net.javacrumbs.futureconverter.generic.FutureConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import rx.Single;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Compares generic {@link FutureConverters} dispatch with the static FutureConverter methods doing the same
+ * conversion. After warm-up the results of each static/generic pair should be the same.
+ */
+public class GenericConverterBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public ListenableFuture<String> staticToListenableFutureCompleted() {
+        return net.javacrumbs.futureconverter.java8guava.FutureConverter.toListenableFuture(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public ListenableFuture<?> genericToListenableFutureCompleted() {
+        return FutureConverters.convert(CompletableFuture.completedFuture(VALUE), ListenableFuture.class);
+    }
+
+    @Benchmark
+    public CompletableFuture<String> staticToCompletableFutureCompleted() {
+        return net.javacrumbs.futureconverter.java8guava.FutureConverter.toCompletableFuture(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public CompletableFuture<?> genericToCompletableFutureCompleted() {
+        return FutureConverters.convert(Futures.immediateFuture(VALUE), CompletableFuture.class);
+    }
+
+    @Benchmark
+    public Single<String> staticToSingleCompleted() {
+        return net.javacrumbs.futureconverter.java8rx.FutureConverter.toSingle(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public Single<?> genericToSingleCompleted() {
+        return FutureConverters.convert(CompletableFuture.completedFuture(VALUE), Single.class);
+    }
+
+    @Benchmark
+    public CompletableFuture<String> staticRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return net.javacrumbs.futureconverter.java8guava.FutureConverter.toCompletableFuture(
+            net.javacrumbs.futureconverter.java8guava.FutureConverter.toListenableFuture(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<?> genericRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return FutureConverters.convert(FutureConverters.convert(source, ListenableFuture.class), CompletableFuture.class);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static net.javacrumbs.futureconverter.guavareactor.FutureConverter.toMono;
+import static net.javacrumbs.futureconverter.guavareactor.FutureConverter.toListenableFuture;
+
+/**
+ * Benchmarks guava-reactor conversions.
+ */
+public class GuavaReactorBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Mono<String> toMonoCompleted() {
+        return toMono(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toMonoPending(Completer completer) throws Exception {
+        SettableFuture<String> source = SettableFuture.create();
+        Mono<String> converted = toMono(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.block();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toMonoRoundTrip() {
+        SettableFuture<String> source = SettableFuture.create();
+        return toListenableFuture(toMono(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(Mono.just(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        Sinks.One<String> source = Sinks.one();
+        ListenableFuture<String> converted = toListenableFuture(source.asMono());
+        completer.complete(() -> source.tryEmitValue(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Mono<String> toListenableFutureRoundTrip() {
+        Sinks.One<String> source = Sinks.one();
+        return toMono(toListenableFuture(source.asMono()));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+import static net.javacrumbs.futureconverter.guavarx.FutureConverter.toSingle;
+import static net.javacrumbs.futureconverter.guavarx.FutureConverter.toListenableFuture;
+
+/**
+ * Benchmarks guava-rxjava conversions.
+ */
+public class GuavaRxJavaBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Single<String> toSingleCompleted() {
+        return toSingle(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toSinglePending(Completer completer) throws Exception {
+        SettableFuture<String> source = SettableFuture.create();
+        Single<String> converted = toSingle(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.toBlocking().value();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toSingleRoundTrip() {
+        SettableFuture<String> source = SettableFuture.create();
+        return toListenableFuture(toSingle(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(Single.just(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        PublishSubject<String> source = PublishSubject.create();
+        ListenableFuture<String> converted = toListenableFuture(source.toSingle());
+        completer.complete(() -> { source.onNext(VALUE); source.onCompleted(); });
+        return converted.get();
+    }
+
+    @Benchmark
+    public Single<String> toListenableFutureRoundTrip() {
+        PublishSubject<String> source = PublishSubject.create();
+        return toSingle(toListenableFuture(source.toSingle()));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.java8apifuture.FutureConverter.toApiFuture;
+import static net.javacrumbs.futureconverter.java8apifuture.FutureConverter.toCompletableFuture;
+
+/**
+ * Benchmarks java8-apifuture conversions.
+ */
+public class Java8ApiFutureBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public ApiFuture<String> toApiFutureCompleted() {
+        return toApiFuture(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toApiFuturePending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        ApiFuture<String> converted = toApiFuture(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toApiFutureRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toApiFuture(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(ApiFutures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        CompletableFuture<String> converted = toCompletableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ApiFuture<String> toCompletableFutureRoundTrip() {
+        SettableApiFuture<String> source = SettableApiFuture.create();
+        return toApiFuture(toCompletableFuture(source));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toListenableFuture;
+import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toCompletableFuture;
+
+/**
+ * Benchmarks java8-guava conversions.
+ */
+public class Java8GuavaBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        ListenableFuture<String> converted = toListenableFuture(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toListenableFutureRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toListenableFuture(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        SettableFuture<String> source = SettableFuture.create();
+        CompletableFuture<String> converted = toCompletableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toCompletableFutureRoundTrip() {
+        SettableFuture<String> source = SettableFuture.create();
+        return toListenableFuture(toCompletableFuture(source));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.java8reactor.FutureConverter.toMono;
+import static net.javacrumbs.futureconverter.java8reactor.FutureConverter.toCompletableFuture;
+
+/**
+ * Benchmarks reactor-java8 conversions.
+ */
+public class ReactorJava8Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Mono<String> toMonoCompleted() {
+        return toMono(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toMonoPending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        Mono<String> converted = toMono(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.block();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toMonoRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toMono(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(Mono.just(VALUE));
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        Sinks.One<String> source = Sinks.one();
+        CompletableFuture<String> converted = toCompletableFuture(source.asMono());
+        completer.complete(() -> source.tryEmitValue(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Mono<String> toCompletableFutureRoundTrip() {
+        Sinks.One<String> source = Sinks.one();
+        return toMono(toCompletableFuture(source.asMono()));
+    }
+}
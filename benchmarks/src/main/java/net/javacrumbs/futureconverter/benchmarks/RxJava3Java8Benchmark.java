@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.java8rx3.FutureConverter.toSingle;
+import static net.javacrumbs.futureconverter.java8rx3.FutureConverter.toCompletableFuture;
+
+/**
+ * Benchmarks rxjava3-java8 conversions.
+ */
+public class RxJava3Java8Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Single<String> toSingleCompleted() {
+        return toSingle(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toSinglePending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        Single<String> converted = toSingle(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.blockingGet();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toSingleRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toSingle(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(Single.just(VALUE));
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        SingleSubject<String> source = SingleSubject.create();
+        CompletableFuture<String> converted = toCompletableFuture(source);
+        completer.complete(() -> source.onSuccess(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Single<String> toCompletableFutureRoundTrip() {
+        SingleSubject<String> source = SingleSubject.create();
+        return toSingle(toCompletableFuture(source));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.java8rx.FutureConverter.toSingle;
+import static net.javacrumbs.futureconverter.java8rx.FutureConverter.toCompletableFuture;
+
+/**
+ * Benchmarks rxjava-java8 conversions.
+ */
+public class RxJavaJava8Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Single<String> toSingleCompleted() {
+        return toSingle(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toSinglePending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        Single<String> converted = toSingle(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.toBlocking().value();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toSingleRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toSingle(source));
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(Single.just(VALUE));
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        PublishSubject<String> source = PublishSubject.create();
+        CompletableFuture<String> converted = toCompletableFuture(source.toSingle());
+        completer.complete(() -> { source.onNext(VALUE); source.onCompleted(); });
+        return converted.get();
+    }
+
+    @Benchmark
+    public Single<String> toCompletableFutureRoundTrip() {
+        PublishSubject<String> source = PublishSubject.create();
+        return toSingle(toCompletableFuture(source.toSingle()));
+    }
+}
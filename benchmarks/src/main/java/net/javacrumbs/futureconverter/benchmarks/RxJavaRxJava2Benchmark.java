@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import io.reactivex.subjects.SingleSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import rx.subjects.PublishSubject;
+
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJava2Single;
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJavaSingle;
+
+/**
+ * Benchmarks rxjava-rxjava2 conversions. Conversions going through CompletableFuture are measured for comparison.
+ */
+public class RxJavaRxJava2Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public String toRxJava2SingleCompleted() {
+        return toRxJava2Single(rx.Single.just(VALUE)).blockingGet();
+    }
+
+    @Benchmark
+    public String toRxJava2SingleCompletedViaCompletableFuture() {
+        return net.javacrumbs.futureconverter.java8rx2.FutureConverter.toSingle(
+            net.javacrumbs.futureconverter.java8rx.FutureConverter.toCompletableFuture(rx.Single.just(VALUE))).blockingGet();
+    }
+
+    @Benchmark
+    public String toRxJava2SinglePending(Completer completer) throws Exception {
+        PublishSubject<String> source = PublishSubject.create();
+        io.reactivex.Single<String> converted = toRxJava2Single(source.toSingle());
+        completer.complete(() -> {
+            source.onNext(VALUE);
+            source.onCompleted();
+        });
+        return converted.blockingGet();
+    }
+
+    @Benchmark
+    public rx.Single<String> toRxJava2SingleRoundTrip() {
+        return toRxJavaSingle(toRxJava2Single(rx.Single.just(VALUE)));
+    }
+
+    @Benchmark
+    public String toRxJavaSingleCompleted() {
+        return toRxJavaSingle(io.reactivex.Single.just(VALUE)).toBlocking().value();
+    }
+
+    @Benchmark
+    public String toRxJavaSingleCompletedViaCompletableFuture() {
+        return net.javacrumbs.futureconverter.java8rx.FutureConverter.toSingle(
+            net.javacrumbs.futureconverter.java8rx2.FutureConverter.toCompletableFuture(io.reactivex.Single.just(VALUE))).toBlocking().value();
+    }
+
+    @Benchmark
+    public String toRxJavaSinglePending(Completer completer) throws Exception {
+        SingleSubject<String> source = SingleSubject.create();
+        rx.Single<String> converted = toRxJavaSingle(source);
+        completer.complete(() -> source.onSuccess(VALUE));
+        return converted.toBlocking().value();
+    }
+
+    @Benchmark
+    public io.reactivex.Single<String> toRxJavaSingleRoundTrip() {
+        return toRxJava2Single(toRxJavaSingle(io.reactivex.Single.just(VALUE)));
+    }
+}
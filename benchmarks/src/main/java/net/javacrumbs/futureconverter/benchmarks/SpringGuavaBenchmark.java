@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import static net.javacrumbs.futureconverter.springguava.FutureConverter.toGuavaListenableFuture;
+import static net.javacrumbs.futureconverter.springguava.FutureConverter.toSpringListenableFuture;
+
+/**
+ * Benchmarks spring-guava conversions.
+ */
+public class SpringGuavaBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public com.google.common.util.concurrent.ListenableFuture<String> toGuavaListenableFutureCompleted() {
+        return toGuavaListenableFuture(completedListenableFuture());
+    }
+
+    @Benchmark
+    public String toGuavaListenableFuturePending(Completer completer) throws Exception {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        com.google.common.util.concurrent.ListenableFuture<String> converted = toGuavaListenableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toGuavaListenableFutureRoundTrip() {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        return toSpringListenableFuture(toGuavaListenableFuture(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toSpringListenableFutureCompleted() {
+        return toSpringListenableFuture(Futures.immediateFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toSpringListenableFuturePending(Completer completer) throws Exception {
+        SettableFuture<String> source = SettableFuture.create();
+        ListenableFuture<String> converted = toSpringListenableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public com.google.common.util.concurrent.ListenableFuture<String> toSpringListenableFutureRoundTrip() {
+        SettableFuture<String> source = SettableFuture.create();
+        return toGuavaListenableFuture(toSpringListenableFuture(source));
+    }
+
+    private static ListenableFuture<String> completedListenableFuture() {
+        SettableListenableFuture<String> future = new SettableListenableFuture<>();
+        future.set(VALUE);
+        return future;
+    }
+}
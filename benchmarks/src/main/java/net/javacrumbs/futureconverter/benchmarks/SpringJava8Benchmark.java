@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.util.concurrent.CompletableFuture;
+
+import static net.javacrumbs.futureconverter.springjava.FutureConverter.toCompletableFuture;
+import static net.javacrumbs.futureconverter.springjava.FutureConverter.toListenableFuture;
+
+/**
+ * Benchmarks spring-java8 conversions.
+ */
+public class SpringJava8Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public CompletableFuture<String> toCompletableFutureCompleted() {
+        return toCompletableFuture(completedListenableFuture());
+    }
+
+    @Benchmark
+    public String toCompletableFuturePending(Completer completer) throws Exception {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        CompletableFuture<String> converted = toCompletableFuture(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toCompletableFutureRoundTrip() {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        return toListenableFuture(toCompletableFuture(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(CompletableFuture.completedFuture(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        ListenableFuture<String> converted = toListenableFuture(source);
+        completer.complete(() -> source.complete(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public CompletableFuture<String> toListenableFutureRoundTrip() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        return toCompletableFuture(toListenableFuture(source));
+    }
+
+    private static ListenableFuture<String> completedListenableFuture() {
+        SettableListenableFuture<String> future = new SettableListenableFuture<>();
+        future.set(VALUE);
+        return future;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static net.javacrumbs.futureconverter.springreactor.FutureConverter.toMono;
+import static net.javacrumbs.futureconverter.springreactor.FutureConverter.toListenableFuture;
+
+/**
+ * Benchmarks spring-reactor conversions.
+ */
+public class SpringReactorBenchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Mono<String> toMonoCompleted() {
+        return toMono(completedListenableFuture());
+    }
+
+    @Benchmark
+    public String toMonoPending(Completer completer) throws Exception {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        Mono<String> converted = toMono(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.block();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toMonoRoundTrip() {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        return toListenableFuture(toMono(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(Mono.just(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        Sinks.One<String> source = Sinks.one();
+        ListenableFuture<String> converted = toListenableFuture(source.asMono());
+        completer.complete(() -> source.tryEmitValue(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Mono<String> toListenableFutureRoundTrip() {
+        Sinks.One<String> source = Sinks.one();
+        return toMono(toListenableFuture(source.asMono()));
+    }
+
+    private static ListenableFuture<String> completedListenableFuture() {
+        SettableListenableFuture<String> future = new SettableListenableFuture<>();
+        future.set(VALUE);
+        return future;
+    }
+}
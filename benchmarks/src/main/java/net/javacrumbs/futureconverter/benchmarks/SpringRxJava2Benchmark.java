@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.benchmarks;
+
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import static net.javacrumbs.futureconverter.springrx2.FutureConverter.toSingle;
+import static net.javacrumbs.futureconverter.springrx2.FutureConverter.toListenableFuture;
+
+/**
+ * Benchmarks spring-rxjava2 conversions.
+ */
+public class SpringRxJava2Benchmark extends AbstractConverterBenchmark {
+
+    @Benchmark
+    public Single<String> toSingleCompleted() {
+        return toSingle(completedListenableFuture());
+    }
+
+    @Benchmark
+    public String toSinglePending(Completer completer) throws Exception {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        Single<String> converted = toSingle(source);
+        completer.complete(() -> source.set(VALUE));
+        return converted.blockingGet();
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toSingleRoundTrip() {
+        SettableListenableFuture<String> source = new SettableListenableFuture<>();
+        return toListenableFuture(toSingle(source));
+    }
+
+    @Benchmark
+    public ListenableFuture<String> toListenableFutureCompleted() {
+        return toListenableFuture(Single.just(VALUE));
+    }
+
+    @Benchmark
+    public String toListenableFuturePending(Completer completer) throws Exception {
+        SingleSubject<String> source = SingleSubject.create();
+        ListenableFuture<String> converted = toListenableFuture(source);
+        completer.complete(() -> source.onSuccess(VALUE));
+        return converted.get();
+    }
+
+    @Benchmark
+    public Single<String> toListenableFutureRoundTrip() {
+        SingleSubject<String> source = SingleSubject.create();
+        return toSingle(toListenableFuture(source));
+    }
+
+    private static ListenableFuture<String> completedListenableFuture() {
+        SettableListenableFuture<String> future = new SettableListenableFuture<>();
+        future.set(VALUE);
+        return future;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.test.plainfuture;
+
+import net.javacrumbs.futureconverter.common.ConvertibleExecutorService;
+import net.javacrumbs.futureconverter.common.ConvertibleFutureTask;
+import net.javacrumbs.futureconverter.common.test.AbstractConverterTest;
+import net.javacrumbs.futureconverter.common.test.OriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.common.CommonOriginalFutureTestHelper;
+
+import java.util.concurrent.Executors;
+
+public class ConvertibleFutureTaskOriginalFutureTestHelper extends CommonOriginalFutureTestHelper implements OriginalFutureTestHelper<ConvertibleFutureTask<String>> {
+
+    private final ConvertibleExecutorService executor = new ConvertibleExecutorService(Executors.newCachedThreadPool());
+
+    @Override
+    public ConvertibleFutureTask<String> createFinishedFuture() {
+        ConvertibleFutureTask<String> future = new ConvertibleFutureTask<>(() -> AbstractConverterTest.VALUE);
+        future.run();
+        return future;
+    }
+
+    @Override
+    public ConvertibleFutureTask<String> createRunningFuture() {
+        return executor.submit(() -> {
+            waitForSignal();
+            return AbstractConverterTest.VALUE;
+        });
+    }
+
+    @Override
+    public ConvertibleFutureTask<String> createExceptionalFuture(Exception exception) {
+        ConvertibleFutureTask<String> future = new ConvertibleFutureTask<>(() -> {
+            throw exception;
+        });
+        future.run();
+        return future;
+    }
+}
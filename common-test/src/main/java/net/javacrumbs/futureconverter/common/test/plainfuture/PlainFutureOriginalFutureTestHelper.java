@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.test.plainfuture;
+
+import net.javacrumbs.futureconverter.common.test.AbstractConverterTest;
+import net.javacrumbs.futureconverter.common.test.OriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.common.CommonOriginalFutureTestHelper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+public class PlainFutureOriginalFutureTestHelper extends CommonOriginalFutureTestHelper implements OriginalFutureTestHelper<Future<String>> {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Override
+    public Future<String> createFinishedFuture() {
+        FutureTask<String> future = new FutureTask<>(() -> AbstractConverterTest.VALUE);
+        future.run();
+        return future;
+    }
+
+    @Override
+    public Future<String> createRunningFuture() {
+        return executor.submit(() -> {
+            waitForSignal();
+            return AbstractConverterTest.VALUE;
+        });
+    }
+
+    @Override
+    public Future<String> createExceptionalFuture(Exception exception) {
+        FutureTask<String> future = new FutureTask<>(() -> {
+            throw exception;
+        });
+        future.run();
+        return future;
+    }
+}
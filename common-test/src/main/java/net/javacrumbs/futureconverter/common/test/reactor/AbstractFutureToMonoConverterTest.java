@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.test.reactor;
+
+import net.javacrumbs.futureconverter.common.test.OriginalFutureTestHelper;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public abstract class AbstractFutureToMonoConverterTest<T extends Future<String>> {
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    private final OriginalFutureTestHelper<T> originalFutureTestHelper;
+
+    protected AbstractFutureToMonoConverterTest(OriginalFutureTestHelper<T> originalFutureTestHelper) {
+        this.originalFutureTestHelper = originalFutureTestHelper;
+    }
+
+    protected abstract Mono<String> toMono(T future);
+
+    protected abstract T toFuture(Mono<String> mono);
+
+    @After
+    public void cleanup() {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testConvertToMonoFinished() throws Exception {
+        T completable = originalFutureTestHelper.createFinishedFuture();
+
+        Mono<String> mono = toMono(completable);
+        Consumer<String> onSuccess = mockAction();
+        Consumer<Throwable> onError = mockAction();
+
+        mono.subscribe(v -> {
+                onSuccess.accept(v);
+                latch.countDown();
+            },
+            onError);
+
+        latch.await();
+
+        verify(onSuccess).accept(VALUE);
+        verifyNoInteractions(onError);
+
+        assertSame(completable, toFuture(mono));
+    }
+
+    @Test
+    public void testRun() throws Exception {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Mono<String> mono = toMono(future);
+        Consumer<String> onSuccess = mockAction();
+        Consumer<Throwable> onError = mockAction();
+
+        mono.subscribe(v -> {
+                onSuccess.accept(v);
+                latch.countDown();
+            },
+            onError);
+        verifyNoInteractions(onSuccess);
+        verifyNoInteractions(onError);
+
+        originalFutureTestHelper.finishRunningFuture();
+        latch.await();
+
+        //wait for the result
+        verify(onSuccess).accept(VALUE);
+        verifyNoInteractions(onError);
+    }
+
+    @Test
+    public void testMultipleSubscribers() throws Exception {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Mono<String> mono = toMono(future);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        Consumer<String> onSuccess1 = mockAction();
+        Consumer<Throwable> onError1 = mockAction();
+
+        // first subscription
+        mono.subscribe(v -> {
+                onSuccess1.accept(v);
+                latch.countDown();
+            },
+            onError1);
+        verifyNoInteractions(onSuccess1);
+        verifyNoInteractions(onError1);
+
+        // second subscription
+        Consumer<String> onSuccess2 = mockAction();
+        Consumer<Throwable> onError2 = mockAction();
+
+        mono.subscribe(v -> {
+                onSuccess2.accept(v);
+                latch.countDown();
+            },
+            onError2);
+        verifyNoInteractions(onSuccess2);
+        verifyNoInteractions(onError2);
+
+        originalFutureTestHelper.finishRunningFuture();
+
+        //wait for the result
+        latch.await();
+
+        verify(onSuccess1).accept(VALUE);
+        verifyNoInteractions(onError1);
+
+        verify(onSuccess2).accept(VALUE);
+        verifyNoInteractions(onError2);
+    }
+
+    @Test
+    public void cancelShouldCancelTheFuture() {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Mono<String> mono = toMono(future);
+
+        mono.subscribe(v -> {}).dispose();
+
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void testCancelOriginal() throws Exception {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Mono<String> mono = toMono(future);
+        Consumer<String> onNext = mockAction();
+        final Consumer<Throwable> onError = mockAction();
+
+        mono.subscribe(
+            onNext,
+            t -> {
+                onError.accept(t);
+                latch.countDown();
+            }
+        );
+        future.cancel(true);
+
+        latch.await();
+
+        verify(onError).accept(any(Throwable.class));
+        verifyNoInteractions(onNext);
+    }
+
+    @Test
+    public void testDispose() throws ExecutionException, InterruptedException {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Mono<String> mono = toMono(future);
+        Consumer<String> onSuccess = mockAction();
+        Consumer<Throwable> onError = mockAction();
+
+        Disposable disposable = mono.subscribe(
+            onSuccess,
+            onError
+        );
+
+        disposable.dispose();
+        assertTrue(disposable.isDisposed());
+
+        originalFutureTestHelper.finishRunningFuture();
+        Thread.sleep(10); //do not know how to wait for something to not happen
+
+        verifyNoInteractions(onSuccess);
+        verifyNoInteractions(onError);
+    }
+
+    @Test
+    public void testRethrowException() throws Exception {
+        RuntimeException exception = new RuntimeException("test");
+        T future = originalFutureTestHelper.createExceptionalFuture(exception);
+
+        Mono<String> mono = toMono(future);
+        Consumer<String> onSuccess = mockAction();
+        final Consumer<Throwable> onError = mockAction();
+
+        mono.subscribe(
+            onSuccess,
+            t -> {
+                onError.accept(t);
+                latch.countDown();
+            }
+        );
+        latch.await();
+
+        //wait for the result
+        verifyNoInteractions(onSuccess);
+        verify(onError).accept(exception);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S> Consumer<S> mockAction() {
+        return mock(Consumer.class);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.test.reactor;
+
+import net.javacrumbs.futureconverter.common.test.ConvertedFutureTestHelper;
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public abstract class AbstractMonoToFutureConverterTest<T extends Future<String>> {
+
+    private final CountDownLatch waitLatch = new CountDownLatch(1);
+
+    private final AtomicInteger subscribed = new AtomicInteger(0);
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    private final ConvertedFutureTestHelper<T> convertedFutureTestHelper;
+
+    protected AbstractMonoToFutureConverterTest(ConvertedFutureTestHelper<T> convertedFutureTestHelper) {
+        this.convertedFutureTestHelper = convertedFutureTestHelper;
+    }
+
+    protected abstract T toFuture(Mono<String> mono);
+
+    protected abstract Mono<String> toMono(T future);
+
+    @After
+    public void cleanup() {
+        waitLatch.countDown();
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testConvertToFutureCompleted() throws ExecutionException, InterruptedException {
+        Mono<String> mono = Mono.just(VALUE);
+        T future = toFuture(mono);
+        assertTrue(future.isDone());
+
+        convertedFutureTestHelper.addCallbackTo(future);
+
+        assertEquals(VALUE, future.get());
+        assertEquals(false, future.isCancelled());
+        convertedFutureTestHelper.verifyCallbackCalledWithCorrectValue();
+
+        assertSame(mono, toMono(future));
+    }
+
+    @Test
+    public void testConvertEmpty() throws ExecutionException, InterruptedException {
+        T future = toFuture(Mono.empty());
+
+        assertTrue(future.isDone());
+        assertNull(future.get());
+    }
+
+    @Test
+    public void testRun() throws ExecutionException, InterruptedException {
+        Mono<String> mono = createAsyncMono();
+        T future = toFuture(mono);
+
+        assertEquals(false, future.isDone());
+        assertEquals(false, future.isCancelled());
+
+        convertedFutureTestHelper.addCallbackTo(future);
+        waitLatch.countDown();
+
+        //wait for the result
+        assertEquals(VALUE, future.get());
+        assertEquals(true, future.isDone());
+        assertEquals(false, future.isCancelled());
+
+        convertedFutureTestHelper.verifyCallbackCalledWithCorrectValue();
+        assertEquals(1, subscribed.get());
+    }
+
+    @Test
+    public void shouldEndExceptionallyIfMonoFailsBeforeConversion() throws InterruptedException {
+        RuntimeException exception = new RuntimeException("test");
+        T future = toFuture(Mono.error(exception));
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void testCancelNew() throws ExecutionException, InterruptedException {
+        Mono<String> mono = createAsyncMono();
+
+        T future = toFuture(mono);
+        assertTrue(future.cancel(true));
+
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (CancellationException e) {
+            //ok
+        }
+        assertEquals(true, future.isDone());
+        assertEquals(true, future.isCancelled());
+
+        assertEquals(1, subscribed.get());
+    }
+
+    @Test
+    public void cancelShouldCancelMono() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Mono<String> mono = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        T future = toFuture(mono);
+        future.cancel(true);
+
+        assertTrue(cancelled.get());
+    }
+
+    @Test
+    public void testCancelCompleted() throws ExecutionException, InterruptedException {
+        T future = toFuture(Mono.just(VALUE));
+        assertFalse(future.cancel(true));
+
+        assertEquals(VALUE, future.get());
+
+        assertTrue(future.isDone());
+        assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void testIOException() throws InterruptedException {
+        IOException exception = new IOException("test");
+        T future = toFuture(Mono.error(exception));
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    private Mono<String> createAsyncMono() {
+        return Mono.create(sink -> {
+            subscribed.incrementAndGet();
+            Future<?> future = executorService.submit(() -> {
+                try {
+                    waitLatch.await();
+                    sink.success(VALUE);
+                } catch (InterruptedException e) {
+                    sink.error(e);
+                }
+            });
+            sink.onCancel(() -> future.cancel(true));
+        });
+    }
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -170,6 +171,23 @@ public abstract class AbstractFutureToSingleConverterTest<T extends Future<Strin
         verifyNoInteractions(onError);
     }
 
+    @Test
+    public void onlyLastUnsubscribeShouldCancelTheFuture() {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Single<String> single = toSingle(future);
+        Subscription first = single.subscribe(v -> {
+        });
+        Subscription second = single.subscribe(v -> {
+        });
+
+        first.unsubscribe();
+        assertFalse(future.isCancelled());
+
+        second.unsubscribe();
+        assertTrue(future.isCancelled());
+    }
+
     @Test
     public void oneSubscriptionShouldNotCancelFuture() throws ExecutionException, InterruptedException {
         T future = originalFutureTestHelper.createRunningFuture();
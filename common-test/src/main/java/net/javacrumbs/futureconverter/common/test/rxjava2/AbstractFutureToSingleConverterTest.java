@@ -30,6 +30,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -170,6 +171,23 @@ public abstract class AbstractFutureToSingleConverterTest<T extends Future<Strin
         verifyNoInteractions(onError);
     }
 
+    @Test
+    public void onlyLastUnsubscribeShouldCancelTheFuture() {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Single<String> single = toSingle(future);
+        Disposable first = single.subscribe(v -> {
+        });
+        Disposable second = single.subscribe(v -> {
+        });
+
+        first.dispose();
+        assertFalse(future.isCancelled());
+
+        second.dispose();
+        assertTrue(future.isCancelled());
+    }
+
     @Test
     public void oneSubscriptionShouldNotCancelFuture() throws Exception {
         T future = originalFutureTestHelper.createRunningFuture();
@@ -16,6 +16,8 @@
 package net.javacrumbs.futureconverter.common.test.rxjava2;
 
 import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.internal.fuseable.ScalarCallable;
 import io.reactivex.subjects.PublishSubject;
 import net.javacrumbs.futureconverter.common.test.ConvertedFutureTestHelper;
 import org.junit.After;
@@ -79,6 +81,14 @@ public abstract class AbstractSingleToFutureConverterTest<T extends Future<Strin
         assertSame(single, toSingle(future));
     }
 
+    @Test
+    public void shouldNotSubscribeToScalarSingle() throws ExecutionException, InterruptedException {
+        T future = toFuture(new ScalarSingle());
+
+        assertTrue(future.isDone());
+        assertEquals(VALUE, future.get());
+    }
+
     @Test
     public void testRun() throws ExecutionException, InterruptedException {
         Single<String> single = createAsyncSingle();
@@ -227,6 +237,21 @@ public abstract class AbstractSingleToFutureConverterTest<T extends Future<Strin
         });
     }
 
+    /**
+     * Scalar Single has to be evaluated without subscription.
+     */
+    private static class ScalarSingle extends Single<String> implements ScalarCallable<String> {
+        @Override
+        public String call() {
+            return VALUE;
+        }
+
+        @Override
+        protected void subscribeActual(SingleObserver<? super String> observer) {
+            throw new AssertionError("Scalar Single should not be subscribed");
+        }
+    }
+
     /**
      * Future that is running underneath the Observable.
      *
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * Executors used to deliver completion of the original future to the converted one. By default, the converted
+ * future is completed directly on the thread that completed the original future, so the whole dependent chain
+ * runs on that thread. If the original future is completed by an I/O thread (gRPC, Netty event loop, ...)
+ * it might be better to deliver the completion using another executor. Long chains of conversions can use
+ * {@link #trampolineExecutor()} to keep the stack depth constant.
+ */
+public final class CallbackExecutors {
+    private static final ThreadLocal<Boolean> IO_THREAD = new ThreadLocal<>();
+
+    private static volatile Executor defaultExecutor = directExecutor();
+
+    private CallbackExecutors() {
+    }
+
+    /**
+     * Executor that runs the task on the calling thread.
+     */
+    public static Executor directExecutor() {
+        return DirectExecutor.INSTANCE;
+    }
+
+    /**
+     * Executor that runs the task on the calling thread. If called from a task it is already running, the task
+     * is queued and executed after the current one finishes. Completion of a long chain of converted futures
+     * is thus executed in a loop and does not grow the stack. Not suitable for callbacks that block waiting
+     * for another queued callback, for example by calling get() on a converted future from a callback,
+     * the queued callback would never be executed.
+     */
+    public static Executor trampolineExecutor() {
+        return TrampolineExecutor.INSTANCE;
+    }
+
+    /**
+     * Returns executor used by conversions that do not specify one.
+     */
+    public static Executor getDefaultExecutor() {
+        return defaultExecutor;
+    }
+
+    /**
+     * Sets executor used by conversions that do not specify one. Affects only conversions made after this call.
+     */
+    public static void setDefaultExecutor(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException("Executor can not be null");
+        }
+        defaultExecutor = executor;
+    }
+
+    /**
+     * Runs tasks directly unless the current thread is marked as I/O thread using {@link #markCurrentThreadAsIoThread()}.
+     * Tasks submitted from I/O threads are passed to the executor.
+     */
+    public static Executor directUnlessIoThread(Executor executor) {
+        return directUnlessIoThread(thread -> isCurrentThreadMarkedAsIoThread(), executor);
+    }
+
+    /**
+     * Runs tasks directly unless the current thread is an I/O thread according to the predicate. Tasks submitted
+     * from I/O threads are passed to the executor.
+     */
+    public static Executor directUnlessIoThread(Predicate<Thread> isIoThread, Executor executor) {
+        if (isIoThread == null || executor == null) {
+            throw new NullPointerException("Predicate and executor can not be null");
+        }
+        return task -> {
+            if (isIoThread.test(Thread.currentThread())) {
+                executor.execute(task);
+            } else {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * Marks the current thread as I/O thread. Usually called from the thread factory of the I/O thread pool.
+     */
+    public static void markCurrentThreadAsIoThread() {
+        IO_THREAD.set(Boolean.TRUE);
+    }
+
+    /**
+     * Removes the mark set by {@link #markCurrentThreadAsIoThread()}. Use it if the thread is pooled and may
+     * be reused for other work.
+     */
+    public static void unmarkCurrentThreadAsIoThread() {
+        IO_THREAD.remove();
+    }
+
+    public static boolean isCurrentThreadMarkedAsIoThread() {
+        return IO_THREAD.get() != null;
+    }
+
+    private enum DirectExecutor implements Executor {
+        INSTANCE;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public String toString() {
+            return "CallbackExecutors.directExecutor()";
+        }
+    }
+
+    private enum TrampolineExecutor implements Executor {
+        INSTANCE;
+
+        private static final ThreadLocal<Trampoline> TRAMPOLINE = ThreadLocal.withInitial(Trampoline::new);
+
+        @Override
+        public void execute(Runnable command) {
+            TRAMPOLINE.get().execute(command);
+        }
+
+        @Override
+        public String toString() {
+            return "CallbackExecutors.trampolineExecutor()";
+        }
+    }
+
+    private static final class Trampoline {
+        private final ArrayDeque<Runnable> queue = new ArrayDeque<>();
+        private boolean running;
+
+        private void execute(Runnable command) {
+            if (running) {
+                queue.add(command);
+                return;
+            }
+            running = true;
+            // Errors are caught too, tasks queued by other tasks have to be executed anyway
+            Throwable failure = null;
+            try {
+                Runnable next = command;
+                while (next != null) {
+                    try {
+                        next.run();
+                    } catch (Throwable e) {
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                    next = queue.poll();
+                }
+            } finally {
+                running = false;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure != null) {
+                // checked exception thrown sneakily
+                throw new UndeclaredThrowableException(failure);
+            }
+        }
+    }
+}
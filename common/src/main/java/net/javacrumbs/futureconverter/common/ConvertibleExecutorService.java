@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes tasks using the wrapped ExecutorService and returns {@link ConvertibleFutureTask} from submit methods.
+ * Works with any ExecutorService including ForkJoinPool, since the tasks are passed to it using
+ * {@link ExecutorService#execute(Runnable)}.
+ */
+public class ConvertibleExecutorService extends AbstractExecutorService {
+    private final ExecutorService executorService;
+
+    public ConvertibleExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    @Override
+    public ConvertibleFutureTask<?> submit(Runnable task) {
+        return (ConvertibleFutureTask<?>) super.submit(task);
+    }
+
+    @Override
+    public <T> ConvertibleFutureTask<T> submit(Runnable task, T result) {
+        return (ConvertibleFutureTask<T>) super.submit(task, result);
+    }
+
+    @Override
+    public <T> ConvertibleFutureTask<T> submit(Callable<T> task) {
+        return (ConvertibleFutureTask<T>) super.submit(task);
+    }
+
+    @Override
+    protected <T> ConvertibleFutureTask<T> newTaskFor(Runnable runnable, T value) {
+        return new ConvertibleFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> ConvertibleFutureTask<T> newTaskFor(Callable<T> callable) {
+        return new ConvertibleFutureTask<>(callable);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        executorService.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return executorService.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executorService.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return executorService.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executorService.awaitTermination(timeout, unit);
+    }
+}
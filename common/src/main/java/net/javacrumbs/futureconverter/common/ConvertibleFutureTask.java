@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common;
+
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * FutureTask that notifies converted futures from {@link #done()}, so its completion does not have to be
+ * detected by polling or by blocking a thread. Use {@link #toValueSourceFuture()} and pass the result to any of
+ * the *FutureUtils classes. Cancelling the converted future with mayInterruptIfRunning interrupts the task.
+ */
+public class ConvertibleFutureTask<T> extends FutureTask<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConvertibleFutureTask, Callback> CALLBACKS =
+        AtomicReferenceFieldUpdater.newUpdater(ConvertibleFutureTask.class, Callback.class, "callbacks");
+
+    private static final Logger log = Logger.getLogger(ConvertibleFutureTask.class.getName());
+
+    /**
+     * Marks the task as done, callbacks added afterwards are called immediately.
+     */
+    private static final Callback DONE = new Callback(() -> {
+    });
+
+    /**
+     * Lock-free stack of callbacks to be called when the task is done.
+     */
+    private volatile Callback callbacks;
+
+    public ConvertibleFutureTask(Callable<T> callable) {
+        super(callable);
+    }
+
+    public ConvertibleFutureTask(Runnable runnable, T result) {
+        super(runnable, result);
+    }
+
+    public ValueSourceFuture<T> toValueSourceFuture() {
+        return toValueSourceFuture(CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public ValueSourceFuture<T> toValueSourceFuture(Executor executor) {
+        return new TaskBackedValueSourceFuture<>(this, executor);
+    }
+
+    /**
+     * Calls the callbacks in the order of registration. Subclasses overriding this method have to call super.
+     */
+    @Override
+    protected void done() {
+        Callback head = CALLBACKS.getAndSet(this, DONE);
+        Callback reversed = null;
+        while (head != null && head != DONE) {
+            Callback next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        for (Callback callback = reversed; callback != null; callback = callback.next) {
+            callback.run();
+        }
+    }
+
+    private void addCallback(Runnable runnable) {
+        Callback callback = new Callback(runnable);
+        while (true) {
+            Callback currentCallbacks = callbacks;
+            if (currentCallbacks == DONE) {
+                callback.run();
+                return;
+            }
+            callback.next = currentCallbacks;
+            if (CALLBACKS.compareAndSet(this, currentCallbacks, callback)) {
+                return;
+            }
+        }
+    }
+
+    private static final class Callback {
+        private final Runnable runnable;
+        private Callback next;
+
+        private Callback(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        /**
+         * One failing callback should not prevent other callbacks from being called, the exception is logged.
+         * Errors are caught as well, otherwise the converted futures of the remaining callbacks would never complete.
+         */
+        private void run() {
+            try {
+                runnable.run();
+            } catch (Throwable e) {
+                log.log(Level.SEVERE, "Exception while calling callback " + runnable, e);
+            }
+        }
+    }
+
+    private static class TaskBackedValueSourceFuture<T> extends ValueSourceFuture<T> {
+        private final Executor executor;
+
+        private TaskBackedValueSourceFuture(ConvertibleFutureTask<T> task, Executor executor) {
+            super(task);
+            this.executor = executor;
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            Listener<T> listener = ExecutorListener.wrap(originalListener, executor);
+            getWrappedFuture().addCallback(() -> notifyListener(listener));
+        }
+
+        @Override
+        protected ConvertibleFutureTask<T> getWrappedFuture() {
+            return (ConvertibleFutureTask<T>) super.getWrappedFuture();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.internal;
+
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Passes notifications to the wrapped listener using an executor.
+ */
+public final class ExecutorListener<T> implements ValueSource.Listener<T> {
+    private final ValueSource.Listener<T> listener;
+    private final Executor executor;
+
+    private ExecutorListener(ValueSource.Listener<T> listener, Executor executor) {
+        this.listener = listener;
+        this.executor = executor;
+    }
+
+    /**
+     * Wraps the listener so it is notified using the executor. Listener is returned as it is if the executor
+     * is {@link CallbackExecutors#directExecutor()}.
+     */
+    public static <T> ValueSource.Listener<T> wrap(ValueSource.Listener<T> listener, Executor executor) {
+        if (executor == CallbackExecutors.directExecutor()) {
+            return listener;
+        } else {
+            return new ExecutorListener<>(listener, executor);
+        }
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        executor.execute(() -> listener.onSuccess(value));
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        executor.execute(() -> listener.onFailure(failure));
+    }
+}
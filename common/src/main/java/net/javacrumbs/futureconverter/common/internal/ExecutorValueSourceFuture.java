@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.internal;
+
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+
+import java.util.concurrent.Executor;
+
+/**
+ * ValueSourceFuture that notifies listeners of another ValueSourceFuture using an executor. Used when a converted
+ * future is converted back with an executor, returning the original value source would skip the executor.
+ * It is the root of its conversion chain, so converters do not unwrap it back to the original future.
+ */
+public final class ExecutorValueSourceFuture<T> extends ValueSourceFuture<T> {
+    private final Executor executor;
+
+    private ExecutorValueSourceFuture(ValueSourceFuture<T> valueSourceFuture, Executor executor) {
+        super(valueSourceFuture);
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the value source as it is if the executor is {@link CallbackExecutors#directExecutor()}, wraps it
+     * otherwise.
+     */
+    public static <T> ValueSourceFuture<T> wrap(ValueSourceFuture<T> valueSourceFuture, Executor executor) {
+        if (executor == CallbackExecutors.directExecutor()) {
+            return valueSourceFuture;
+        } else {
+            return new ExecutorValueSourceFuture<>(valueSourceFuture, executor);
+        }
+    }
+
+    @Override
+    public void addListener(Listener<T> listener) {
+        getWrappedFuture().addListener(ExecutorListener.wrap(listener, executor));
+    }
+
+    @Override
+    public State getState() {
+        return getWrappedFuture().getState();
+    }
+
+    @Override
+    public T getValue() {
+        return getWrappedFuture().getValue();
+    }
+
+    @Override
+    public Throwable getFailure() {
+        return getWrappedFuture().getFailure();
+    }
+
+    @Override
+    protected ValueSourceFuture<T> getWrappedFuture() {
+        return (ValueSourceFuture<T>) super.getWrappedFuture();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Wraps ValueSourceFuture and notifies any number of listeners while registering only one listener on the
+ * ValueSourceFuture. Listeners are kept in a lock-free stack and notified in the order of registration.
+ */
+public abstract class MultiplexingFutureWrapper<T> extends FutureWrapper<T> implements ValueSource.Listener<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<MultiplexingFutureWrapper, Object> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(MultiplexingFutureWrapper.class, Object.class, "state");
+
+    private static final Logger log = Logger.getLogger(MultiplexingFutureWrapper.class.getName());
+
+    /**
+     * Represents successful null result.
+     */
+    private static final Object NIL = new Object();
+
+    /**
+     * null if nobody is listening yet, {@link ListenerNode} when running, {@link Failure}, NIL or the value when done.
+     */
+    private volatile Object state;
+
+    protected MultiplexingFutureWrapper(ValueSourceFuture<T> valueSourceFuture) {
+        super(valueSourceFuture);
+    }
+
+    @Override
+    protected ValueSourceFuture<T> getWrappedFuture() {
+        return (ValueSourceFuture<T>) super.getWrappedFuture();
+    }
+
+    /**
+     * Executes the listener on the executor when the future is done.
+     */
+    public void addListener(Runnable listener, Executor executor) {
+        if (isDone()) {
+            executor.execute(listener);
+        } else {
+            addListenerNode(new ExecutorListenerNode<>(listener, executor));
+        }
+    }
+
+    /**
+     * Adds the listener. The first listener registers this object on the ValueSourceFuture.
+     */
+    @SuppressWarnings("unchecked")
+    protected void addListenerNode(ListenerNode<T> node) {
+        while (true) {
+            Object currentState = state;
+            if (isCompleted(currentState)) {
+                notifyListener(node, currentState);
+                return;
+            }
+            node.next = (ListenerNode<T>) currentState;
+            if (STATE.compareAndSet(this, currentState, node)) {
+                if (currentState == null) {
+                    getWrappedFuture().addListener(this);
+                }
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        complete(value != null ? value : NIL);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        complete(new Failure(failure));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(Object result) {
+        Object currentState;
+        do {
+            currentState = state;
+            if (isCompleted(currentState)) {
+                return;
+            }
+        } while (!STATE.compareAndSet(this, currentState, result));
+
+        ListenerNode<T> head = (ListenerNode<T>) currentState;
+        ListenerNode<T> reversed = null;
+        while (head != null) {
+            ListenerNode<T> next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        for (ListenerNode<T> node = reversed; node != null; node = node.next) {
+            notifyListener(node, result);
+        }
+    }
+
+    /**
+     * One failing listener should not prevent other listeners from being notified, the exception is logged.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void notifyListener(ListenerNode<T> node, Object result) {
+        try {
+            if (result instanceof Failure) {
+                node.onFailure(((Failure) result).exception);
+            } else {
+                node.onSuccess(result != NIL ? (T) result : null);
+            }
+        } catch (RuntimeException e) {
+            log.log(Level.SEVERE, "RuntimeException while notifying listener " + node, e);
+        }
+    }
+
+    private static boolean isCompleted(Object state) {
+        return state != null && !(state instanceof ListenerNode);
+    }
+
+    /**
+     * Listener that can be stored in the listener stack.
+     */
+    public abstract static class ListenerNode<T> implements ValueSource.Listener<T> {
+        private ListenerNode<T> next;
+    }
+
+    private static final class ExecutorListenerNode<T> extends ListenerNode<T> {
+        private final Runnable listener;
+        private final Executor executor;
+
+        private ExecutorListenerNode(Runnable listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            executor.execute(listener);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            executor.execute(listener);
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable exception;
+
+        private Failure(Throwable exception) {
+            this.exception = exception;
+        }
+    }
+}
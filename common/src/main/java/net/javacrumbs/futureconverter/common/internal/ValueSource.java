@@ -24,13 +24,80 @@ import java.util.function.Consumer;
  * have cancel method here.
  */
 public interface ValueSource<T> {
+    /**
+     * Used to notify target object about changes in the original object. Target objects usually implement
+     * the listener themselves, so no extra objects have to be allocated.
+     */
+    void addListener(Listener<T> listener);
+
     /**
      * Used to notify target object about changes in the original object.
      */
-    void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback);
+    default void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
+        addListener(new Listener<T>() {
+            @Override
+            public void onSuccess(T value) {
+                successCallback.accept(value);
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+                failureCallback.accept(failure);
+            }
+        });
+    }
 
     /**
      * Cancels execution of the original object if cancel is called on the target object
      */
     boolean cancel(boolean mayInterruptIfRunning);
+
+    /**
+     * Returns state of the original object without blocking. If the original object is already completed,
+     * target object can take the result directly and does not have to register callbacks. Sources that
+     * can not find out the state without subscribing (e.g. RxJava Single) report {@link State#PENDING}.
+     */
+    default State getState() {
+        return State.PENDING;
+    }
+
+    /**
+     * Returns the value of the original object. Can be called only in {@link State#SUCCESS} state.
+     */
+    default T getValue() {
+        throw new IllegalStateException("Value source is not completed successfully");
+    }
+
+    /**
+     * Returns the exception of the original object. Can be called only in {@link State#FAILURE} or
+     * {@link State#CANCELLED} state.
+     */
+    default Throwable getFailure() {
+        throw new IllegalStateException("Value source is not completed exceptionally");
+    }
+
+    /**
+     * Returns value source wrapping the object the conversion chain has started with. If the original object is
+     * itself a result of a conversion, we can skip all the intermediate steps and return the object from
+     * the beginning of the chain. Value sources that are at the beginning of the chain return themselves.
+     */
+    default ValueSource<T> getRoot() {
+        return this;
+    }
+
+    /**
+     * Gets notified when the original object completes.
+     */
+    interface Listener<T> {
+        void onSuccess(T value);
+
+        void onFailure(Throwable failure);
+    }
+
+    enum State {
+        PENDING,
+        SUCCESS,
+        FAILURE,
+        CANCELLED
+    }
 }
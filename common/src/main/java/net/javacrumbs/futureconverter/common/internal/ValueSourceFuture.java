@@ -15,6 +15,8 @@
  */
 package net.javacrumbs.futureconverter.common.internal;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
 /**
@@ -24,4 +26,94 @@ public abstract class ValueSourceFuture<T> extends FutureWrapper<T> implements V
     protected ValueSourceFuture(Future<T> wrappedFuture) {
         super(wrappedFuture);
     }
+
+    @Override
+    public State getState() {
+        if (!isDone()) {
+            return State.PENDING;
+        }
+        if (isCancelled()) {
+            return State.CANCELLED;
+        }
+        try {
+            getDone();
+            return State.SUCCESS;
+        } catch (ExecutionException | CancellationException e) {
+            return State.FAILURE;
+        }
+    }
+
+    @Override
+    public T getValue() {
+        try {
+            return getDone();
+        } catch (ExecutionException | CancellationException e) {
+            throw new IllegalStateException("Value source is not completed successfully", e);
+        }
+    }
+
+    @Override
+    public Throwable getFailure() {
+        try {
+            getDone();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (CancellationException e) {
+            return e;
+        }
+        throw new IllegalStateException("Value source is not completed exceptionally");
+    }
+
+    /**
+     * Returns the future at the beginning of the conversion chain if it is an instance of the type, null otherwise.
+     * Futures implementing more future interfaces at once can be thus returned without any wrapping.
+     */
+    public static <F extends Future<?>> F getOriginalFuture(ValueSource<?> valueSource, Class<F> type) {
+        ValueSource<?> root = valueSource.getRoot();
+        if (root instanceof ValueSourceFuture) {
+            Future<?> originalFuture = ((ValueSourceFuture<?>) root).getWrappedFuture();
+            if (type.isInstance(originalFuture)) {
+                return type.cast(originalFuture);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Passes result of the wrapped future to the listener. Can be called only when the wrapped future is done.
+     */
+    protected void notifyListener(Listener<T> listener) {
+        T value;
+        try {
+            value = getDone();
+        } catch (ExecutionException e) {
+            listener.onFailure(e.getCause());
+            return;
+        } catch (CancellationException e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onSuccess(value);
+    }
+
+    /**
+     * Gets result of a future that is already done. Some implementations (e.g. Guava) check the interrupted flag
+     * even if the result is available, so we have to ignore interrupts and restore the flag afterwards.
+     */
+    private T getDone() throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common.spi;
+
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+
+/**
+ * Converts one future type to ValueSource and back. Implementations are registered using
+ * {@link java.util.ServiceLoader}, so generic converters can find adapters of all the libraries on the classpath.
+ */
+public interface FutureAdapter {
+    /**
+     * Type of the future handled by this adapter.
+     */
+    Class<?> getFutureType();
+
+    /**
+     * Creates ValueSource from a future of {@link #getFutureType()} type.
+     */
+    <T> ValueSource<T> createValueSource(Object future);
+
+    /**
+     * Creates future of {@link #getFutureType()} type from the ValueSource.
+     */
+    <T> Object createFuture(ValueSource<T> valueSource);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.common;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CallbackExecutorsTest {
+
+    @Test
+    public void directExecutorShouldBeTheDefault() {
+        assertSame(CallbackExecutors.directExecutor(), CallbackExecutors.getDefaultExecutor());
+    }
+
+    @Test
+    public void trampolineShouldExecuteNestedTasksAfterTheCurrentOne() {
+        Executor executor = CallbackExecutors.trampolineExecutor();
+        List<Integer> calls = new ArrayList<>();
+        executor.execute(() -> {
+            executor.execute(() -> calls.add(2));
+            calls.add(1);
+        });
+        assertEquals(asList(1, 2), calls);
+    }
+
+    @Test
+    public void trampolineShouldExecuteQueuedTasksEvenIfTaskThrowsError() {
+        Executor executor = CallbackExecutors.trampolineExecutor();
+        List<Integer> calls = new ArrayList<>();
+        try {
+            executor.execute(() -> {
+                executor.execute(() -> calls.add(1));
+                throw new AssertionError("Test error");
+            });
+            fail("Error expected");
+        } catch (AssertionError e) {
+            assertEquals("Test error", e.getMessage());
+        }
+        assertEquals(asList(1), calls);
+
+        executor.execute(() -> calls.add(2));
+        assertEquals(asList(1, 2), calls);
+    }
+
+    @Test
+    public void trampolineShouldWrapCheckedExceptionThrownSneakily() {
+        Executor executor = CallbackExecutors.trampolineExecutor();
+        IOException exception = new IOException("Test");
+        try {
+            executor.execute(() -> sneakyThrow(exception));
+            fail("Exception expected");
+        } catch (UndeclaredThrowableException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void shouldRunTasksDirectlyOnUnmarkedThread() {
+        Executor executor = CallbackExecutors.directUnlessIoThread(task -> fail("Executor should not be used"));
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), thread.get());
+    }
+
+    @Test
+    public void shouldPassTasksFromMarkedThreadToExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        Executor executor = CallbackExecutors.directUnlessIoThread(submitted::add);
+        List<Integer> calls = new ArrayList<>();
+
+        CallbackExecutors.markCurrentThreadAsIoThread();
+        try {
+            assertTrue(CallbackExecutors.isCurrentThreadMarkedAsIoThread());
+            executor.execute(() -> calls.add(1));
+        } finally {
+            CallbackExecutors.unmarkCurrentThreadAsIoThread();
+        }
+
+        assertEquals(1, submitted.size());
+        assertTrue(calls.isEmpty());
+        assertFalse(CallbackExecutors.isCurrentThreadMarkedAsIoThread());
+
+        executor.execute(() -> calls.add(2));
+        assertEquals(asList(2), calls);
+        assertEquals(1, submitted.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.executor;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import org.springframework.core.task.AsyncListenableTaskExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes tasks using the wrapped executor and returns {@link UniversalFutureTask} from all submit methods.
+ * The returned future is CompletableFuture, Guava ListenableFuture, Spring ListenableFuture and ApiFuture at once,
+ * so FutureConverters return it unchanged. It is at the same time Guava {@link ListeningExecutorService} and
+ * Spring {@link AsyncListenableTaskExecutor}, so it can be used with @Async or wherever Guava expects an executor.
+ * <p>
+ * The wrapped executor can be ExecutorService, Spring AsyncTaskExecutor or any other Executor. Lifecycle
+ * methods are passed to it only if it is an ExecutorService. Otherwise the lifecycle of the executor is managed
+ * by its owner and shutdown only stops accepting new tasks.
+ */
+public class ConvertingExecutorService extends AbstractExecutorService implements ListeningExecutorService, AsyncListenableTaskExecutor {
+    private final Executor executor;
+
+    private volatile boolean shutdown = false;
+
+    public ConvertingExecutorService(Executor executor) {
+        if (executor == null) {
+            throw new NullPointerException();
+        }
+        this.executor = executor;
+    }
+
+    @Override
+    public UniversalFutureTask<?> submit(Runnable task) {
+        return (UniversalFutureTask<?>) super.submit(task);
+    }
+
+    @Override
+    public <T> UniversalFutureTask<T> submit(Runnable task, T result) {
+        return (UniversalFutureTask<T>) super.submit(task, result);
+    }
+
+    @Override
+    public <T> UniversalFutureTask<T> submit(Callable<T> task) {
+        return (UniversalFutureTask<T>) super.submit(task);
+    }
+
+    @Override
+    public UniversalFutureTask<?> submitListenable(Runnable task) {
+        return submit(task);
+    }
+
+    @Override
+    public <T> UniversalFutureTask<T> submitListenable(Callable<T> task) {
+        return submit(task);
+    }
+
+    @Override
+    protected <T> UniversalFutureTask<T> newTaskFor(Runnable runnable, T value) {
+        return new UniversalFutureTask<>(Executors.callable(runnable, value));
+    }
+
+    @Override
+    protected <T> UniversalFutureTask<T> newTaskFor(Callable<T> callable) {
+        return new UniversalFutureTask<>(callable);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        executor.execute(command);
+    }
+
+    /**
+     * The timeout is only a hint, the task is executed as it is.
+     */
+    @Override
+    @Deprecated
+    public void execute(Runnable task, long startTimeout) {
+        execute(task);
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        if (executor instanceof ExecutorService) {
+            return ((ExecutorService) executor).shutdownNow();
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        if (executor instanceof ExecutorService) {
+            return ((ExecutorService) executor).isShutdown();
+        } else {
+            return shutdown;
+        }
+    }
+
+    /**
+     * If the wrapped executor is not an ExecutorService, we do not know about running tasks and the executor
+     * is considered terminated once it is shut down.
+     */
+    @Override
+    public boolean isTerminated() {
+        if (executor instanceof ExecutorService) {
+            return ((ExecutorService) executor).isTerminated();
+        } else {
+            return shutdown;
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (executor instanceof ExecutorService) {
+            return ((ExecutorService) executor).awaitTermination(timeout, unit);
+        } else {
+            return shutdown;
+        }
+    }
+}
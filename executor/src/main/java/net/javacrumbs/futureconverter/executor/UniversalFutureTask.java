@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.executor;
+
+import net.javacrumbs.futureconverter.universal.UniversalFuture;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * UniversalFuture that computes its value by calling the callable. Unlike plain CompletableFuture, cancel
+ * with mayInterruptIfRunning interrupts the thread running the task.
+ */
+public class UniversalFutureTask<T> extends UniversalFuture<T> implements RunnableFuture<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<UniversalFutureTask, Object> RUNNER =
+        AtomicReferenceFieldUpdater.newUpdater(UniversalFutureTask.class, Object.class, "runner");
+
+    private static final Object INTERRUPTING = new Object();
+    private static final Object INTERRUPTED = new Object();
+
+    private final Callable<T> callable;
+
+    /**
+     * null if not running, the running thread, INTERRUPTING or INTERRUPTED if cancelled while running.
+     */
+    private volatile Object runner;
+
+    public UniversalFutureTask(Callable<T> callable) {
+        if (callable == null) {
+            throw new NullPointerException();
+        }
+        this.callable = callable;
+    }
+
+    @Override
+    public void run() {
+        Thread currentThread = Thread.currentThread();
+        if (isDone() || !RUNNER.compareAndSet(this, null, currentThread)) {
+            return;
+        }
+        try {
+            if (!isDone()) {
+                complete(callable.call());
+            }
+        } catch (Throwable e) {
+            completeExceptionally(e);
+        } finally {
+            if (!RUNNER.compareAndSet(this, currentThread, null)) {
+                // wait for the interrupt from cancel, so it does not leak to the next task run by this thread
+                while (runner == INTERRUPTING) {
+                    Thread.yield();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!super.cancel(mayInterruptIfRunning)) {
+            return false;
+        }
+        if (mayInterruptIfRunning) {
+            Object currentRunner = runner;
+            if (currentRunner instanceof Thread && RUNNER.compareAndSet(this, currentRunner, INTERRUPTING)) {
+                try {
+                    ((Thread) currentRunner).interrupt();
+                } finally {
+                    runner = INTERRUPTED;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Dependent stages do not run the callable, so they are plain UniversalFutures. No @Override, same as
+     * in UniversalFuture the method does not exist in CompletableFuture on Java 8.
+     */
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new UniversalFuture<>();
+    }
+}
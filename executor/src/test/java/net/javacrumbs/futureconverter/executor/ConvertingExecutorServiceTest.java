@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.executor;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ConvertingExecutorServiceTest {
+    private static final String VALUE = "test";
+
+    private final ExecutorService threadPool = Executors.newCachedThreadPool();
+
+    private final ConvertingExecutorService executorService = new ConvertingExecutorService(threadPool);
+
+    @After
+    public void shutdown() {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void convertersShouldReturnTheSameFuture() {
+        UniversalFutureTask<String> future = executorService.submit(() -> VALUE);
+
+        assertSame(future, GuavaFutureUtils.createListenableFuture(Java8FutureUtils.createValueSourceFuture(future)));
+        assertSame(future, SpringFutureUtils.createListenableFuture(Java8FutureUtils.createValueSourceFuture(future)));
+        assertSame(future, Java8FutureUtils.createCompletableFuture(GuavaFutureUtils.createValueSourceFuture(future)));
+        assertSame(future, Java8FutureUtils.createCompletableFuture(SpringFutureUtils.createValueSource(future)));
+    }
+
+    @Test
+    public void shouldNotifyListenerWithValue() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        UniversalFutureTask<String> future = executorService.submit(() -> VALUE);
+        future.addCallback(value -> {
+            assertEquals(VALUE, value);
+            latch.countDown();
+        }, failure -> {
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldPassFailure() throws InterruptedException {
+        RuntimeException exception = new RuntimeException("test");
+        UniversalFutureTask<String> future = executorService.submit(() -> {
+            throw exception;
+        });
+
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+    }
+
+    @Test
+    public void cancelShouldInterruptTheTask() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        UniversalFutureTask<String> future = executorService.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return VALUE;
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertTrue(Java8FutureUtils.createCompletableFuture(GuavaFutureUtils.createValueSource(future)).cancel(true));
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    public void cancelledTaskShouldNotRun() {
+        UniversalFutureTask<String> task = new UniversalFutureTask<>(() -> {
+            throw new AssertionError("Should not run");
+        });
+        task.cancel(true);
+
+        task.run();
+
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void shouldWrapSpringTaskExecutor() throws ExecutionException, InterruptedException {
+        ConvertingExecutorService springExecutorService = new ConvertingExecutorService(new SimpleAsyncTaskExecutor());
+        ListenableFuture<String> future = springExecutorService.submitListenable(() -> VALUE);
+
+        assertEquals(VALUE, future.get());
+        assertSame(future, GuavaFutureUtils.createListenableFuture(SpringFutureUtils.createValueSourceFuture(future)));
+
+        springExecutorService.shutdown();
+        assertTrue(springExecutorService.isShutdown());
+        assertTrue(springExecutorService.isTerminated());
+        try {
+            springExecutorService.submit(() -> VALUE);
+            fail("Exception expected");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void shouldWrapListeningExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorService listeningThreadPool = Executors.newSingleThreadExecutor();
+        ConvertingExecutorService guavaExecutorService = new ConvertingExecutorService(MoreExecutors.listeningDecorator(listeningThreadPool));
+
+        assertEquals(VALUE, guavaExecutorService.submit(() -> VALUE).get());
+        assertFalse(guavaExecutorService.isShutdown());
+
+        guavaExecutorService.shutdown();
+        assertTrue(listeningThreadPool.isShutdown());
+        assertTrue(guavaExecutorService.awaitTermination(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.flowcommon;
+
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Converts between {@link ValueSource} and single element {@link java.util.concurrent.Flow.Publisher}.
+ */
+public class FlowFutureUtils {
+    public static <T> Flow.Publisher<T> createPublisher(ValueSource<T> valueSource) {
+        ValueSource<T> root = valueSource.getRoot();
+        if (root instanceof PublisherBackedValueSource) {
+            return ((PublisherBackedValueSource<T>) root).getPublisher();
+        }
+        return new ValueSourceBackedPublisher<>(valueSource);
+    }
+
+    public static <T> ValueSource<T> createValueSource(Flow.Publisher<T> publisher) {
+        return createValueSource(publisher, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(Flow.Publisher<T> publisher, Executor executor) {
+        // ValueSource of ValueSourceBackedPublisher is returned only if it's a Future, other value sources
+        // may not support more listeners. We can still get to them using getRoot().
+        if (publisher instanceof ValueSourceBackedPublisher &&
+            ((ValueSourceBackedPublisher<T>) publisher).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedPublisher<T>) publisher).getValueSource(), executor);
+        } else {
+            return new PublisherBackedValueSource<>(publisher, executor);
+        }
+    }
+
+    /**
+     * Subscribes to the Publisher when the listener is added, requests exactly one element and cancels
+     * the subscription once the element is received.
+     */
+    private static class PublisherBackedValueSource<T> implements ValueSource<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<PublisherBackedValueSource, Object> SUBSCRIBER =
+            AtomicReferenceFieldUpdater.newUpdater(PublisherBackedValueSource.class, Object.class, "subscriber");
+
+        private static final Object CANCELLED = new Object();
+        private static final Object DONE = new Object();
+
+        private final Flow.Publisher<T> publisher;
+        private final Executor executor;
+
+        /**
+         * null before subscription, the subscriber when subscribed, CANCELLED if cancelled before or after
+         * subscription and DONE when completed. The subscriber is created before subscribing and can be
+         * cancelled before it gets the Subscription, so no intermediate state is needed.
+         */
+        private volatile Object subscriber;
+
+        private PublisherBackedValueSource(Flow.Publisher<T> publisher, Executor executor) {
+            this.publisher = publisher;
+            this.executor = executor;
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            ListenerSubscriber<T> newSubscriber = new ListenerSubscriber<>(ExecutorListener.wrap(originalListener, executor), this);
+            if (SUBSCRIBER.compareAndSet(this, null, newSubscriber)) {
+                publisher.subscribe(newSubscriber);
+            } else if (subscriber != CANCELLED) {
+                throw new IllegalStateException("add callbacks can be called only once");
+            }
+        }
+
+        /**
+         * Cancel before subscription prevents the subscription, cancel after completion does nothing.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            while (true) {
+                Object currentSubscriber = subscriber;
+                if (currentSubscriber == CANCELLED || currentSubscriber == DONE) {
+                    return false;
+                }
+                if (SUBSCRIBER.compareAndSet(this, currentSubscriber, CANCELLED)) {
+                    if (currentSubscriber != null) {
+                        ((ListenerSubscriber<T>) currentSubscriber).cancel();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Returns false if cancelled, the listener should not be notified then.
+         */
+        private boolean markDone() {
+            return SUBSCRIBER.getAndSet(this, DONE) != CANCELLED;
+        }
+
+        @Override
+        public ValueSource<T> getRoot() {
+            if (publisher instanceof ValueSourceBackedPublisher) {
+                return ((ValueSourceBackedPublisher<T>) publisher).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
+        private Flow.Publisher<T> getPublisher() {
+            return publisher;
+        }
+    }
+
+    /**
+     * Publisher that completes without an element is converted to null value.
+     */
+    private static class ListenerSubscriber<T> implements Flow.Subscriber<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ListenerSubscriber, Flow.Subscription> SUBSCRIPTION =
+            AtomicReferenceFieldUpdater.newUpdater(ListenerSubscriber.class, Flow.Subscription.class, "subscription");
+
+        private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+
+        private final ValueSource.Listener<T> listener;
+        private final PublisherBackedValueSource<T> valueSource;
+        private volatile Flow.Subscription subscription;
+        private boolean done = false;
+
+        private ListenerSubscriber(ValueSource.Listener<T> listener, PublisherBackedValueSource<T> valueSource) {
+            this.listener = listener;
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (SUBSCRIPTION.compareAndSet(this, null, subscription)) {
+                subscription.request(1);
+            } else {
+                // cancelled before subscribed or subscribed twice
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(T value) {
+            if (!done) {
+                done = true;
+                cancel();
+                if (valueSource.markDone()) {
+                    listener.onSuccess(value);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable failure) {
+            if (!done) {
+                done = true;
+                if (valueSource.markDone()) {
+                    listener.onFailure(failure);
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                if (valueSource.markDone()) {
+                    listener.onSuccess(null);
+                }
+            }
+        }
+
+        private void cancel() {
+            Flow.Subscription current = SUBSCRIPTION.getAndSet(this, CANCELLED);
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+
+    private static class ValueSourceBackedPublisher<T> implements Flow.Publisher<T> {
+        private final ValueSource<T> valueSource;
+
+        private ValueSourceBackedPublisher(ValueSource<T> valueSource) {
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber, "subscriber");
+            ValueSourceSubscription<T> subscription = new ValueSourceSubscription<>(subscriber, valueSource);
+            // onSubscribe has to be called first, the value source may already be completed
+            subscriber.onSubscribe(subscription);
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    subscription.onSuccess(valueSource.getValue());
+                    break;
+                case FAILURE:
+                case CANCELLED:
+                    subscription.onFailure(valueSource.getFailure());
+                    break;
+                default:
+                    if (!subscription.isCancelled()) {
+                        valueSource.addListener(subscription);
+                    }
+            }
+        }
+
+        private ValueSource<T> getValueSource() {
+            return valueSource;
+        }
+    }
+
+    /**
+     * The value is emitted only after it has been requested. Cancellation is propagated to the value source.
+     */
+    private static class ValueSourceSubscription<T> implements Flow.Subscription, ValueSource.Listener<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<ValueSourceSubscription> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(ValueSourceSubscription.class, "state");
+
+        private static final int NO_REQUEST_NO_VALUE = 0;
+        private static final int HAS_REQUEST_NO_VALUE = 1;
+        private static final int NO_REQUEST_HAS_VALUE = 2;
+        private static final int DONE = 3;
+        private static final int CANCELLED = 4;
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final ValueSource<T> valueSource;
+        private volatile int state;
+        private T value;
+
+        private ValueSourceSubscription(Flow.Subscriber<? super T> subscriber, ValueSource<T> valueSource) {
+            this.subscriber = subscriber;
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // rule 3.9 of the Reactive Streams specification
+                invalidRequest(n);
+                return;
+            }
+            while (true) {
+                int currentState = state;
+                if (currentState == NO_REQUEST_HAS_VALUE) {
+                    if (STATE.compareAndSet(this, NO_REQUEST_HAS_VALUE, DONE)) {
+                        emit(value);
+                    }
+                    return;
+                } else if (currentState != NO_REQUEST_NO_VALUE ||
+                    STATE.compareAndSet(this, NO_REQUEST_NO_VALUE, HAS_REQUEST_NO_VALUE)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            if (value == null) {
+                if (terminate()) {
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            this.value = value;
+            while (true) {
+                int currentState = state;
+                if (currentState == HAS_REQUEST_NO_VALUE) {
+                    if (STATE.compareAndSet(this, HAS_REQUEST_NO_VALUE, DONE)) {
+                        emit(value);
+                    }
+                    return;
+                } else if (currentState != NO_REQUEST_NO_VALUE ||
+                    STATE.compareAndSet(this, NO_REQUEST_NO_VALUE, NO_REQUEST_HAS_VALUE)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (terminate()) {
+                subscriber.onError(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            while (true) {
+                int currentState = state;
+                if (currentState >= DONE) {
+                    return;
+                }
+                if (STATE.compareAndSet(this, currentState, CANCELLED)) {
+                    value = null;
+                    valueSource.cancel(true);
+                    return;
+                }
+            }
+        }
+
+        private void invalidRequest(long n) {
+            while (true) {
+                int currentState = state;
+                if (currentState >= DONE) {
+                    return;
+                }
+                if (STATE.compareAndSet(this, currentState, DONE)) {
+                    value = null;
+                    valueSource.cancel(true);
+                    subscriber.onError(new IllegalArgumentException("Requested " + n + " elements, the number has to be positive"));
+                    return;
+                }
+            }
+        }
+
+        private boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Moves to DONE state if no value has been received yet.
+         */
+        private boolean terminate() {
+            while (true) {
+                int currentState = state;
+                if (currentState >= NO_REQUEST_HAS_VALUE) {
+                    return false;
+                }
+                if (STATE.compareAndSet(this, currentState, DONE)) {
+                    return true;
+                }
+            }
+        }
+
+        private void emit(T value) {
+            subscriber.onNext(value);
+            subscriber.onComplete();
+        }
+    }
+}
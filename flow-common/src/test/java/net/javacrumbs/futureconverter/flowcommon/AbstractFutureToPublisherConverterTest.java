@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.flowcommon;
+
+import net.javacrumbs.futureconverter.common.test.OriginalFutureTestHelper;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+
+import static java.util.Collections.singletonList;
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public abstract class AbstractFutureToPublisherConverterTest<T extends Future<String>> {
+    private final OriginalFutureTestHelper<T> originalFutureTestHelper;
+
+    protected AbstractFutureToPublisherConverterTest(OriginalFutureTestHelper<T> originalFutureTestHelper) {
+        this.originalFutureTestHelper = originalFutureTestHelper;
+    }
+
+    protected abstract Flow.Publisher<String> toPublisher(T future);
+
+    protected abstract T toFuture(Flow.Publisher<String> publisher);
+
+    @Test
+    public void testConvertFinished() throws InterruptedException {
+        T future = originalFutureTestHelper.createFinishedFuture();
+
+        Flow.Publisher<String> publisher = toPublisher(future);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1);
+        publisher.subscribe(subscriber);
+        subscriber.awaitTermination();
+
+        assertEquals(singletonList(VALUE), subscriber.getValues());
+        assertTrue(subscriber.isCompleted());
+
+        assertSame(future, toFuture(publisher));
+    }
+
+    @Test
+    public void testRun() throws InterruptedException {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        toPublisher(future).subscribe(subscriber);
+        assertEquals(Collections.emptyList(), subscriber.getValues());
+        assertFalse(subscriber.isCompleted());
+
+        originalFutureTestHelper.finishRunningFuture();
+        subscriber.awaitTermination();
+
+        assertEquals(singletonList(VALUE), subscriber.getValues());
+        assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    public void shouldNotEmitBeforeRequest() throws InterruptedException {
+        T future = originalFutureTestHelper.createFinishedFuture();
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        toPublisher(future).subscribe(subscriber);
+        assertEquals(Collections.emptyList(), subscriber.getValues());
+        assertFalse(subscriber.isCompleted());
+
+        subscriber.getSubscription().request(1);
+        subscriber.awaitTermination();
+
+        assertEquals(singletonList(VALUE), subscriber.getValues());
+        assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    public void shouldFailOnInvalidRequest() throws InterruptedException {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        toPublisher(future).subscribe(subscriber);
+        subscriber.getSubscription().request(0);
+        subscriber.awaitTermination();
+
+        assertTrue(subscriber.getErrors().get(0) instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testMultipleSubscribers() throws InterruptedException {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        Flow.Publisher<String> publisher = toPublisher(future);
+        RecordingSubscriber<String> subscriber1 = new RecordingSubscriber<>(1);
+        RecordingSubscriber<String> subscriber2 = new RecordingSubscriber<>(1);
+        publisher.subscribe(subscriber1);
+        publisher.subscribe(subscriber2);
+
+        originalFutureTestHelper.finishRunningFuture();
+        subscriber1.awaitTermination();
+        subscriber2.awaitTermination();
+
+        assertEquals(singletonList(VALUE), subscriber1.getValues());
+        assertEquals(singletonList(VALUE), subscriber2.getValues());
+    }
+
+    @Test
+    public void cancelShouldCancelTheFuture() {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1);
+        toPublisher(future).subscribe(subscriber);
+        subscriber.getSubscription().cancel();
+
+        assertTrue(future.isCancelled());
+        assertEquals(Collections.emptyList(), subscriber.getValues());
+        assertFalse(subscriber.isCompleted());
+    }
+
+    @Test
+    public void testCancelOriginal() throws InterruptedException {
+        T future = originalFutureTestHelper.createRunningFuture();
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1);
+        toPublisher(future).subscribe(subscriber);
+        future.cancel(true);
+        subscriber.awaitTermination();
+
+        assertTrue(subscriber.getErrors().get(0) instanceof CancellationException);
+    }
+
+    @Test
+    public void testRethrowException() throws Exception {
+        RuntimeException exception = new RuntimeException("test");
+        T future = originalFutureTestHelper.createExceptionalFuture(exception);
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1);
+        toPublisher(future).subscribe(subscriber);
+        subscriber.awaitTermination();
+
+        assertEquals(singletonList(exception), subscriber.getErrors());
+        assertEquals(Collections.emptyList(), subscriber.getValues());
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.flowcommon;
+
+import net.javacrumbs.futureconverter.common.test.ConvertedFutureTestHelper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.singletonList;
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public abstract class AbstractPublisherToFutureConverterTest<T extends Future<String>> {
+    private final List<Long> requests = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicReference<Flow.Subscriber<? super String>> subscriberRef = new AtomicReference<>();
+
+    private final ConvertedFutureTestHelper<T> convertedFutureTestHelper;
+
+    protected AbstractPublisherToFutureConverterTest(ConvertedFutureTestHelper<T> convertedFutureTestHelper) {
+        this.convertedFutureTestHelper = convertedFutureTestHelper;
+    }
+
+    protected abstract T toFuture(Flow.Publisher<String> publisher);
+
+    protected abstract Flow.Publisher<String> toPublisher(T future);
+
+    @Test
+    public void testConvertSubmissionPublisher() throws ExecutionException, InterruptedException {
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            T future = toFuture(publisher);
+            assertFalse(future.isDone());
+            convertedFutureTestHelper.addCallbackTo(future);
+
+            publisher.submit(VALUE);
+
+            assertEquals(VALUE, future.get());
+            convertedFutureTestHelper.verifyCallbackCalledWithCorrectValue();
+            assertSame(publisher, toPublisher(future));
+        }
+    }
+
+    @Test
+    public void shouldRequestOneElementAndCancel() throws ExecutionException, InterruptedException {
+        T future = toFuture(createPublisher());
+        assertEquals(singletonList(1L), requests);
+        assertFalse(future.isDone());
+
+        subscriberRef.get().onNext(VALUE);
+
+        assertEquals(VALUE, future.get());
+        assertTrue(cancelled.get());
+        assertEquals(singletonList(1L), requests);
+    }
+
+    @Test
+    public void shouldReturnNullIfPublisherIsEmpty() throws ExecutionException, InterruptedException {
+        T future = toFuture(createPublisher());
+        subscriberRef.get().onComplete();
+
+        assertNull(future.get());
+    }
+
+    @Test
+    public void cancelShouldCancelSubscription() {
+        T future = toFuture(createPublisher());
+        assertTrue(future.cancel(true));
+
+        assertTrue(cancelled.get());
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (CancellationException | InterruptedException | ExecutionException e) {
+            assertTrue(e instanceof CancellationException);
+        }
+    }
+
+    @Test
+    public void testPublisherError() throws InterruptedException {
+        IOException exception = new IOException("test");
+        T future = toFuture(createPublisher());
+        subscriberRef.get().onError(exception);
+
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (ExecutionException e) {
+            assertSame(exception, e.getCause());
+        }
+        assertFalse(future.isCancelled());
+    }
+
+    @Test
+    public void shouldIgnoreSignalsAfterFirstElement() throws ExecutionException, InterruptedException {
+        T future = toFuture(createPublisher());
+        subscriberRef.get().onNext(VALUE);
+        subscriberRef.get().onNext("other");
+        subscriberRef.get().onError(new IOException("test"));
+
+        assertEquals(VALUE, future.get());
+    }
+
+    private Flow.Publisher<String> createPublisher() {
+        return subscriber -> {
+            assertTrue(subscriberRef.compareAndSet(null, subscriber));
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        };
+    }
+}
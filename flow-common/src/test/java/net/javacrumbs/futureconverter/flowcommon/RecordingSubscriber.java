@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.flowcommon;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Subscriber that records all the signals. Requests the given number of elements in onSubscribe.
+ */
+public class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+    private final long initialRequest;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final List<T> values = new CopyOnWriteArrayList<>();
+    private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+    private volatile boolean completed = false;
+
+    public RecordingSubscriber(long initialRequest) {
+        this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (initialRequest > 0) {
+            subscription.request(initialRequest);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        values.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        errors.add(throwable);
+        terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        terminated.countDown();
+    }
+
+    public void awaitTermination() throws InterruptedException {
+        assertTrue("Subscriber not terminated", terminated.await(1, TimeUnit.SECONDS));
+    }
+
+    public Flow.Subscription getSubscription() {
+        return subscription;
+    }
+
+    public List<T> getValues() {
+        return values;
+    }
+
+    public List<Throwable> getErrors() {
+        return errors;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.java8flow;
+
+import net.javacrumbs.futureconverter.common.test.java8.Java8OriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.flowcommon.AbstractFutureToPublisherConverterTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+public class ToPublisherConverterTest extends AbstractFutureToPublisherConverterTest<CompletableFuture<String>> {
+    public ToPublisherConverterTest() {
+        super(new Java8OriginalFutureTestHelper());
+    }
+
+    @Override
+    protected Flow.Publisher<String> toPublisher(CompletableFuture<String> future) {
+        return FutureConverter.toPublisher(future);
+    }
+
+    @Override
+    protected CompletableFuture<String> toFuture(Flow.Publisher<String> publisher) {
+        return FutureConverter.toCompletableFuture(publisher);
+    }
+}
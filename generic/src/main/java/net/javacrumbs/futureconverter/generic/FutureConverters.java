@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.generic;
+
+import net.javacrumbs.futureconverter.common.spi.FutureAdapter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Converts between any future types supported by future-converter-*-common modules on the classpath.
+ * Adapters are discovered using {@link ServiceLoader}. Conversion route for each (source class, target class)
+ * pair is resolved only once and cached, so after warm-up the dispatch is just two {@link ClassValue} lookups.
+ */
+public final class FutureConverters {
+    private static final List<FutureAdapter> ADAPTERS = loadAdapters();
+
+    private static final ClassValue<ClassValue<Route>> ROUTES = new ClassValue<ClassValue<Route>>() {
+        @Override
+        protected ClassValue<Route> computeValue(Class<?> sourceType) {
+            return new ClassValue<Route>() {
+                @Override
+                protected Route computeValue(Class<?> targetType) {
+                    return findRoute(sourceType, targetType);
+                }
+            };
+        }
+    };
+
+    private FutureConverters() {
+    }
+
+    /**
+     * Converts source future to the target type. If source already is an instance of the target type,
+     * it's returned as it is.
+     *
+     * @throws IllegalArgumentException if there is no adapter for the source or target type
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R convert(Object source, Class<R> targetType) {
+        if (source == null) {
+            throw new NullPointerException("Source can not be null");
+        }
+        return (R) ROUTES.get(source.getClass()).get(targetType).convert(source);
+    }
+
+    private static List<FutureAdapter> loadAdapters() {
+        List<FutureAdapter> adapters = new ArrayList<>();
+        Iterator<FutureAdapter> iterator = ServiceLoader.load(FutureAdapter.class, FutureConverters.class.getClassLoader()).iterator();
+        while (iterator.hasNext()) {
+            try {
+                adapters.add(iterator.next());
+            } catch (ServiceConfigurationError e) {
+                // adapter that can not be loaded on this JVM (e.g. flow-common on Java 8) is skipped
+            }
+        }
+        return Collections.unmodifiableList(adapters);
+    }
+
+    private static Route findRoute(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isAssignableFrom(sourceType)) {
+            return source -> source;
+        }
+        FutureAdapter sourceAdapter = findSourceAdapter(sourceType);
+        FutureAdapter targetAdapter = findTargetAdapter(targetType);
+        if (sourceAdapter == null || targetAdapter == null) {
+            String message = "Can not convert " + sourceType.getName() + " to " + targetType.getName() +
+                ", adapter for " + (sourceAdapter == null ? sourceType.getName() : targetType.getName()) + " not found";
+            return source -> {
+                throw new IllegalArgumentException(message);
+            };
+        }
+        return source -> targetAdapter.createFuture(sourceAdapter.createValueSource(source));
+    }
+
+    /**
+     * Finds adapter with the most specific future type the source is an instance of.
+     */
+    private static FutureAdapter findSourceAdapter(Class<?> sourceType) {
+        FutureAdapter result = null;
+        for (FutureAdapter adapter : ADAPTERS) {
+            if (adapter.getFutureType().isAssignableFrom(sourceType)
+                && (result == null || result.getFutureType().isAssignableFrom(adapter.getFutureType()))) {
+                result = adapter;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds adapter creating exactly the target type. If there is none, takes the first adapter creating its subtype.
+     */
+    private static FutureAdapter findTargetAdapter(Class<?> targetType) {
+        FutureAdapter result = null;
+        for (FutureAdapter adapter : ADAPTERS) {
+            if (adapter.getFutureType() == targetType) {
+                return adapter;
+            } else if (result == null && targetType.isAssignableFrom(adapter.getFutureType())) {
+                result = adapter;
+            }
+        }
+        return result;
+    }
+
+    private interface Route {
+        Object convert(Object source);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.generic;
+
+import com.google.api.core.ApiFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class FutureConvertersTest {
+    private static final String VALUE = "test";
+
+    @Test
+    public void shouldReturnSourceOfTargetType() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        assertSame(future, FutureConverters.convert(future, CompletableFuture.class));
+    }
+
+    @Test
+    public void shouldConvertThroughMoreTypes() throws ExecutionException, InterruptedException {
+        SettableFuture<String> original = SettableFuture.create();
+        CompletableFuture<?> completable = FutureConverters.convert(original, CompletableFuture.class);
+        rx.Single<?> single = FutureConverters.convert(completable, rx.Single.class);
+        io.reactivex.Single<?> single2 = FutureConverters.convert(single, io.reactivex.Single.class);
+        ApiFuture<?> apiFuture = FutureConverters.convert(single2, ApiFuture.class);
+
+        original.set(VALUE);
+
+        assertEquals(VALUE, apiFuture.get());
+        assertSame(original, FutureConverters.convert(completable, ListenableFuture.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnUnknownSourceType() {
+        FutureConverters.convert(new FutureTask<>(() -> VALUE), CompletableFuture.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnUnknownTargetType() {
+        FutureConverters.convert(new CompletableFuture<>(), FutureTask.class);
+    }
+}
@@ -15,16 +15,15 @@
  */
 package net.javacrumbs.futureconverter.guavacommon;
 
-import com.google.common.util.concurrent.FutureCallback;
-import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
-import com.google.common.util.concurrent.MoreExecutors;
-import net.javacrumbs.futureconverter.common.internal.FutureWrapper;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.MultiplexingFutureWrapper;
 import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
 
 import java.util.concurrent.Executor;
-import java.util.function.Consumer;
 
 
 public class GuavaFutureUtils {
@@ -33,17 +32,21 @@ public class GuavaFutureUtils {
     /**
      * Creates listenable future from ValueSourceFuture. We have to send all Future API calls to ValueSourceFuture.
      */
+    @SuppressWarnings("unchecked")
     public static <T> ListenableFuture<T> createListenableFuture(ValueSourceFuture<T> valueSourceFuture) {
-        if (valueSourceFuture instanceof ListenableFutureBackedValueSourceFuture) {
-            return ((ListenableFutureBackedValueSourceFuture<T>) valueSourceFuture).getWrappedFuture();
+        ListenableFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSourceFuture, ListenableFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceFutureBackedListenableFuture<>(valueSourceFuture);
         }
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ListenableFuture<T> createListenableFuture(ValueSource<T> valueSource) {
-        if (valueSource instanceof ListenableFutureBackedValueSourceFuture) {
-            return ((ListenableFutureBackedValueSourceFuture<T>) valueSource).getWrappedFuture();
+        ListenableFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSource, ListenableFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceBackedListenableFuture<>(valueSource);
         }
@@ -51,53 +54,64 @@ public class GuavaFutureUtils {
 
     /**
      * If we have ValueSourceFuture, we can use it as the implementation and this class only converts
-     * listener registration.
+     * listener registration. Only one listener is registered on the ValueSourceFuture no matter how many
+     * listeners are added.
      */
-    private static class ValueSourceFutureBackedListenableFuture<T> extends FutureWrapper<T> implements ListenableFuture<T> {
+    private static class ValueSourceFutureBackedListenableFuture<T> extends MultiplexingFutureWrapper<T> implements ListenableFuture<T> {
         ValueSourceFutureBackedListenableFuture(ValueSourceFuture<T> valueSourceFuture) {
             super(valueSourceFuture);
         }
 
         @Override
         protected ValueSourceFuture<T> getWrappedFuture() {
-            return (ValueSourceFuture<T>) super.getWrappedFuture();
-        }
-
-        @Override
-        public void addListener(Runnable listener, Executor executor) {
-            getWrappedFuture().addCallbacks(value -> executor.execute(listener), ex -> executor.execute(listener));
+            return super.getWrappedFuture();
         }
     }
 
 
     /**
-     * If we only get ValueSource we have to create a ValueSourceFuture. Here we wrap Guavas SettableFuture
-     * and use it for listener handling and value storage.
+     * If we only get ValueSource we have to create a ValueSourceFuture. We extend Guavas AbstractFuture
+     * and use it for listener handling and value storage, so the whole conversion is just one object.
      */
-    private static class ValueSourceBackedListenableFuture<T> extends FutureWrapper<T> implements ListenableFuture<T> {
+    private static class ValueSourceBackedListenableFuture<T> extends AbstractFuture<T> implements ValueSource.Listener<T> {
         private final ValueSource<T> valueSource;
 
         private ValueSourceBackedListenableFuture(ValueSource<T> valueSource) {
-            super(com.google.common.util.concurrent.SettableFuture.create());
             this.valueSource = valueSource;
-            valueSource.addCallbacks(value -> getWrappedFuture().set(value), ex -> getWrappedFuture().setException(ex));
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    set(valueSource.getValue());
+                    break;
+                case FAILURE:
+                    setException(valueSource.getFailure());
+                    break;
+                case CANCELLED:
+                    super.cancel(false);
+                    break;
+                default:
+                    valueSource.addListener(this);
+            }
         }
 
         @Override
-        public void addListener(Runnable listener, Executor executor) {
-            getWrappedFuture().addListener(listener, executor);
+        public void onSuccess(T value) {
+            set(value);
         }
 
         @Override
-        protected com.google.common.util.concurrent.SettableFuture<T> getWrappedFuture() {
-            return (com.google.common.util.concurrent.SettableFuture<T>) super.getWrappedFuture();
+        public void onFailure(Throwable failure) {
+            setException(failure);
         }
 
-
         @Override
         public boolean cancel(boolean mayInterruptIfRunning) {
-            valueSource.cancel(mayInterruptIfRunning);
-            return super.cancel(mayInterruptIfRunning);
+            // cancel first, the value source may complete us while being cancelled
+            if (super.cancel(mayInterruptIfRunning)) {
+                valueSource.cancel(mayInterruptIfRunning);
+                return true;
+            } else {
+                return false;
+            }
         }
 
         private ValueSource<T> getValueSource() {
@@ -108,46 +122,62 @@ public class GuavaFutureUtils {
 
     // *************************************** Converting from ListenableFuture ******************************************
     public static <T> ValueSourceFuture<T> createValueSourceFuture(ListenableFuture<T> listenableFuture) {
+        return createValueSourceFuture(listenableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         if (listenableFuture instanceof ValueSourceFutureBackedListenableFuture) {
-            return ((ValueSourceFutureBackedListenableFuture<T>) listenableFuture).getWrappedFuture();
+            return ExecutorValueSourceFuture.wrap(((ValueSourceFutureBackedListenableFuture<T>) listenableFuture).getWrappedFuture(), executor);
+        } else if (listenableFuture instanceof ValueSourceBackedListenableFuture &&
+            ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource(), executor);
         } else {
-            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture);
+            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture, executor);
         }
     }
 
     public static <T> ValueSource<T> createValueSource(ListenableFuture<T> listenableFuture) {
-        if (listenableFuture instanceof ValueSourceBackedListenableFuture) {
-            return ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource();
-        } else {
-            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture);
-        }
+        return createValueSource(listenableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(ListenableFuture<T> listenableFuture, Executor executor) {
+        // ValueSource of ValueSourceBackedListenableFuture is returned only if it's a Future, other value sources
+        // (RxJava Single) may not support more listeners. We can still get to them using getRoot().
+        return createValueSourceFuture(listenableFuture, executor);
     }
 
     /**
      * Wraps ListenableFuture and exposes it as ValueSourceFuture.
      */
     private static class ListenableFutureBackedValueSourceFuture<T> extends ValueSourceFuture<T> {
-        private ListenableFutureBackedValueSourceFuture(ListenableFuture<T> wrappedFuture) {
+        private final Executor executor;
+
+        private ListenableFutureBackedValueSourceFuture(ListenableFuture<T> wrappedFuture, Executor executor) {
             super(wrappedFuture);
+            this.executor = executor;
         }
 
         @Override
-        public void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
-            Futures.addCallback(getWrappedFuture(), new FutureCallback<T>() {
-                @Override
-                public void onSuccess(T result) {
-                    successCallback.accept(result);
-                }
-
-                @Override
-                public void onFailure(Throwable t) {
-                    failureCallback.accept(t);
-
-                }
-            }, MoreExecutors.directExecutor());
+        public void addListener(Listener<T> listener) {
+            getWrappedFuture().addListener(() -> notifyListener(listener), executor);
         }
 
 
+        @Override
+        public ValueSource<T> getRoot() {
+            if (getWrappedFuture() instanceof ValueSourceBackedListenableFuture) {
+                return ((ValueSourceBackedListenableFuture<T>) getWrappedFuture()).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
         @Override
         protected ListenableFuture<T> getWrappedFuture() {
             return (ListenableFuture<T>) super.getWrappedFuture();
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.guavaflow;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import net.javacrumbs.futureconverter.flowcommon.FlowFutureUtils;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Converts between Guava {@link com.google.common.util.concurrent.ListenableFuture} and {@link java.util.concurrent.Flow.Publisher}
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to single element {@link java.util.concurrent.Flow.Publisher}.
+     * The original future is canceled when the subscription is cancelled.
+     */
+    public static <T> Flow.Publisher<T> toPublisher(ListenableFuture<T> listenableFuture) {
+        return FlowFutureUtils.createPublisher(GuavaFutureUtils.createValueSource(listenableFuture));
+    }
+
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to single element {@link java.util.concurrent.Flow.Publisher}.
+     * The original future is canceled when the subscription is cancelled.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Flow.Publisher<T> toPublisher(ListenableFuture<T> listenableFuture, Executor executor) {
+        return FlowFutureUtils.createPublisher(GuavaFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
+    /**
+     * Converts {@link java.util.concurrent.Flow.Publisher} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Exactly one element is requested, the subscription is cancelled once the element is received.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Flow.Publisher<T> publisher) {
+        return GuavaFutureUtils.createListenableFuture(FlowFutureUtils.createValueSource(publisher));
+    }
+
+    /**
+     * Converts {@link java.util.concurrent.Flow.Publisher} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Exactly one element is requested, the subscription is cancelled once the element is received.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Flow.Publisher<T> publisher, Executor executor) {
+        return GuavaFutureUtils.createListenableFuture(FlowFutureUtils.createValueSource(publisher, executor));
+    }
+}
@@ -20,6 +20,8 @@ import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
 import net.javacrumbs.futureconverter.rxjavacommon.RxJavaFutureUtils;
 import rx.Single;
 
+import java.util.concurrent.Executor;
+
 public class FutureConverter {
 
     /**
@@ -30,10 +32,27 @@ public class FutureConverter {
         return RxJavaFutureUtils.createSingle(GuavaFutureUtils.createValueSource(listenableFuture));
     }
 
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to  {@link rx.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture, Executor executor) {
+        return RxJavaFutureUtils.createSingle(GuavaFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
     /**
      * Converts  {@link rx.Single} to {@link com.google.common.util.concurrent.ListenableFuture}.
      */
     public static <T> ListenableFuture<T> toListenableFuture(Single<T> single) {
         return GuavaFutureUtils.createListenableFuture(RxJavaFutureUtils.createValueSource(single));
     }
+
+    /**
+     * Converts  {@link rx.Single} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single, Executor executor) {
+        return GuavaFutureUtils.createListenableFuture(RxJavaFutureUtils.createValueSource(single, executor));
+    }
 }
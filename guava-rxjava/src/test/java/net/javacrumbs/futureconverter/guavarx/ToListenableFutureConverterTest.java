@@ -18,8 +18,18 @@ package net.javacrumbs.futureconverter.guavarx;
 import com.google.common.util.concurrent.ListenableFuture;
 import net.javacrumbs.futureconverter.common.test.guava.GuavaConvertedFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.rxjava.AbstractSingleToFutureConverterTest;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.rxjavacommon.RxJavaFutureUtils;
+import org.junit.Test;
 import rx.Single;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 public class ToListenableFutureConverterTest extends AbstractSingleToFutureConverterTest<ListenableFuture<String>> {
 
     public ToListenableFutureConverterTest() {
@@ -35,4 +45,14 @@ public class ToListenableFutureConverterTest extends AbstractSingleToFutureConve
     protected Single<String> toSingle(ListenableFuture<String> future) {
         return FutureConverter.toSingle(future);
     }
+
+    @Test
+    public void shouldReturnOriginalSingleAfterMultipleConversions() throws ExecutionException, InterruptedException {
+        Single<String> single = Single.just("value");
+        CompletableFuture<String> completable = Java8FutureUtils.createCompletableFuture(RxJavaFutureUtils.createValueSource(single));
+        ListenableFuture<String> listenable = GuavaFutureUtils.createListenableFuture(Java8FutureUtils.createValueSourceFuture(completable));
+
+        assertEquals("value", listenable.get());
+        assertSame(single, toSingle(listenable));
+    }
 }
@@ -20,6 +20,8 @@ import io.reactivex.Single;
 import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
 import net.javacrumbs.futureconverter.rxjava2common.RxJava2FutureUtils;
 
+import java.util.concurrent.Executor;
+
 public class FutureConverter {
 
     /**
@@ -30,10 +32,27 @@ public class FutureConverter {
         return RxJava2FutureUtils.createSingle(GuavaFutureUtils.createValueSource(listenableFuture));
     }
 
+    /**
+     * Converts {@link com.google.common.util.concurrent.ListenableFuture} to  {@link io.reactivex.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture, Executor executor) {
+        return RxJava2FutureUtils.createSingle(GuavaFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
     /**
      * Converts  {@link io.reactivex.Single} to {@link com.google.common.util.concurrent.ListenableFuture}.
      */
     public static <T> ListenableFuture<T> toListenableFuture(Single<T> single) {
         return GuavaFutureUtils.createListenableFuture(RxJava2FutureUtils.createValueSource(single));
     }
+
+    /**
+     * Converts  {@link io.reactivex.Single} to {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single, Executor executor) {
+        return GuavaFutureUtils.createListenableFuture(RxJava2FutureUtils.createValueSource(single, executor));
+    }
 }
@@ -21,6 +21,7 @@ import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
 import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Converts between {@link java.util.concurrent.CompletableFuture} and Google {@link com.google.api.core.ApiFuture}.
@@ -34,10 +35,26 @@ public class FutureConverter {
         return ApiFutureUtils.createApiFuture(Java8FutureUtils.createValueSourceFuture(completableFuture));
     }
 
+    /**
+     * Converts {@link java.util.concurrent.CompletableFuture} to {@link com.google.api.core.ApiFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ApiFuture<T> toApiFuture(CompletableFuture<T> completableFuture, Executor executor) {
+        return ApiFutureUtils.createApiFuture(Java8FutureUtils.createValueSourceFuture(completableFuture, executor));
+    }
+
     /**
      * Converts  {@link com.google.api.core.ApiFuture} to {@link java.util.concurrent.CompletableFuture}.
      */
     public static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
         return Java8FutureUtils.createCompletableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture));
     }
+
+    /**
+     * Converts  {@link com.google.api.core.ApiFuture} to {@link java.util.concurrent.CompletableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture, Executor executor) {
+        return Java8FutureUtils.createCompletableFuture(ApiFutureUtils.createValueSourceFuture(apiFuture, executor));
+    }
 }
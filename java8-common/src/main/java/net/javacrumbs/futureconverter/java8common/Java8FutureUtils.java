@@ -15,49 +15,90 @@
  */
 package net.javacrumbs.futureconverter.java8common;
 
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
 import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public class Java8FutureUtils {
 
+    @SuppressWarnings("unchecked")
     public static <T> CompletableFuture<T> createCompletableFuture(ValueSource<T> valueSource) {
-        if (valueSource instanceof CompletableFuturebackedValueSource) {
-            return ((CompletableFuturebackedValueSource<T>) valueSource).getWrappedFuture();
+        CompletableFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSource, CompletableFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourcebackedCompletableFuture<T>(valueSource);
         }
     }
 
     public static <T> ValueSourceFuture<T> createValueSourceFuture(CompletableFuture<T> completableFuture) {
+        return createValueSourceFuture(completableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(CompletableFuture<T> completableFuture, Executor executor) {
         if (completableFuture instanceof ValueSourcebackedCompletableFuture &&
             ((ValueSourcebackedCompletableFuture<T>) completableFuture).getValueSource() instanceof ValueSourceFuture) {
-            return (ValueSourceFuture<T>) ((ValueSourcebackedCompletableFuture<T>) completableFuture).getValueSource();
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourcebackedCompletableFuture<T>) completableFuture).getValueSource(), executor);
         } else {
-            return new CompletableFuturebackedValueSource<>(completableFuture);
+            return new CompletableFuturebackedValueSource<>(completableFuture, executor);
         }
     }
 
     public static <T> ValueSource<T> createValueSource(CompletableFuture<T> completableFuture) {
-        if (completableFuture instanceof ValueSourcebackedCompletableFuture) {
-            return ((ValueSourcebackedCompletableFuture<T>) completableFuture).getValueSource();
-        } else {
-            return new CompletableFuturebackedValueSource<>(completableFuture);
-        }
+        return createValueSource(completableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(CompletableFuture<T> completableFuture, Executor executor) {
+        // ValueSource of ValueSourcebackedCompletableFuture is returned only if it's a Future, other value sources
+        // (RxJava Single) may not support more listeners. We can still get to them using getRoot().
+        return createValueSourceFuture(completableFuture, executor);
     }
 
     /**
      * CompletableFuture that takes values from the ValueSource. CompletableFuture is a class, not
      * an interface so we can not just forward events from the ValueSource, we to always instantiate the class.
      */
-    private static final class ValueSourcebackedCompletableFuture<T> extends CompletableFuture<T> {
+    private static final class ValueSourcebackedCompletableFuture<T> extends CompletableFuture<T> implements ValueSource.Listener<T> {
         private final ValueSource<T> valueSource;
 
         private ValueSourcebackedCompletableFuture(ValueSource<T> valueSource) {
             this.valueSource = valueSource;
-            valueSource.addCallbacks(this::complete, this::completeExceptionally);
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    complete(valueSource.getValue());
+                    break;
+                case FAILURE:
+                    completeExceptionally(valueSource.getFailure());
+                    break;
+                case CANCELLED:
+                    super.cancel(false);
+                    break;
+                default:
+                    valueSource.addListener(this);
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            complete(value);
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            completeExceptionally(failure);
         }
 
         @Override
@@ -65,8 +106,11 @@ public class Java8FutureUtils {
             if (isDone()) {
                 return false;
             }
-            boolean result = valueSource.cancel(mayInterruptIfRunning);
-            super.cancel(mayInterruptIfRunning);
+            // cancel first, the value source may complete us while being cancelled
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                valueSource.cancel(mayInterruptIfRunning);
+            }
             return result;
         }
 
@@ -76,22 +120,66 @@ public class Java8FutureUtils {
     }
 
     private static final class CompletableFuturebackedValueSource<T> extends ValueSourceFuture<T> {
-        private CompletableFuturebackedValueSource(CompletableFuture<T> completableFuture) {
+        private final Executor executor;
+
+        private CompletableFuturebackedValueSource(CompletableFuture<T> completableFuture, Executor executor) {
             super(completableFuture);
+            this.executor = executor;
         }
 
 
         @Override
-        public void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
+        public void addListener(Listener<T> listener) {
+            Listener<T> executorListener = ExecutorListener.wrap(listener, executor);
             getWrappedFuture().whenComplete((v, t) -> {
                 if (t == null) {
-                    successCallback.accept(v);
+                    executorListener.onSuccess(v);
                 } else {
-                    failureCallback.accept(t);
+                    executorListener.onFailure(t);
                 }
             });
         }
 
+        @Override
+        public State getState() {
+            CompletableFuture<T> completableFuture = getWrappedFuture();
+            if (!completableFuture.isDone()) {
+                return State.PENDING;
+            } else if (completableFuture.isCancelled()) {
+                return State.CANCELLED;
+            } else if (completableFuture.isCompletedExceptionally()) {
+                return State.FAILURE;
+            } else {
+                return State.SUCCESS;
+            }
+        }
+
+        @Override
+        public ValueSource<T> getRoot() {
+            if (getWrappedFuture() instanceof ValueSourcebackedCompletableFuture) {
+                return ((ValueSourcebackedCompletableFuture<T>) getWrappedFuture()).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
+        @Override
+        public T getValue() {
+            return getWrappedFuture().getNow(null);
+        }
+
+        @Override
+        public Throwable getFailure() {
+            try {
+                getWrappedFuture().getNow(null);
+            } catch (CompletionException e) {
+                return e.getCause() != null ? e.getCause() : e;
+            } catch (CancellationException e) {
+                return e;
+            }
+            throw new IllegalStateException("Value source is not completed exceptionally");
+        }
+
         @Override
         protected CompletableFuture<T> getWrappedFuture() {
             return (CompletableFuture<T>) super.getWrappedFuture();
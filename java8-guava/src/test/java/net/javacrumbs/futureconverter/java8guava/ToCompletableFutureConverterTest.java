@@ -15,15 +15,33 @@
  */
 package net.javacrumbs.futureconverter.java8guava;
 
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
 import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
 import net.javacrumbs.futureconverter.common.test.guava.GuavaOriginalFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
+import org.junit.Test;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toCompletableFuture;
 import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toListenableFuture;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 
 public class ToCompletableFutureConverterTest extends AbstractConverterHelperBasedTest<
@@ -43,4 +61,73 @@ public class ToCompletableFutureConverterTest extends AbstractConverterHelperBas
     protected ListenableFuture<String> convertBack(CompletableFuture<String> converted) {
         return toListenableFuture(converted);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotRegisterListenerOnCompletedFuture() throws ExecutionException, InterruptedException {
+        ListenableFuture<String> original = mock(ListenableFuture.class);
+        when(original.isDone()).thenReturn(true);
+        when(original.get()).thenReturn(VALUE);
+
+        CompletableFuture<String> converted = convert(original);
+
+        assertEquals(true, converted.isDone());
+        assertEquals(VALUE, converted.get());
+        verify(original, never()).addListener(any(), any());
+    }
+
+    @Test
+    public void shouldDeliverCompletionUsingExecutor() throws ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "callback-thread"));
+        try {
+            SettableFuture<String> original = SettableFuture.create();
+            CompletableFuture<String> threadName = toCompletableFuture(original, executor)
+                .thenApply(value -> Thread.currentThread().getName());
+
+            original.set(VALUE);
+
+            assertEquals("callback-thread", threadName.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldDeliverCompletionUsingExecutorWhenConvertingBack() throws ExecutionException, InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "callback-thread"));
+        try {
+            CompletableFuture<String> original = new CompletableFuture<>();
+            CompletableFuture<String> convertedBack = toCompletableFuture(toListenableFuture(original), executor);
+            assertNotSame(original, convertedBack);
+            CompletableFuture<String> threadName = convertedBack.thenApply(value -> Thread.currentThread().getName());
+
+            original.complete(VALUE);
+
+            assertEquals("callback-thread", threadName.get());
+            assertEquals(VALUE, convertedBack.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnOriginalFutureWhenConvertingBackWithDirectExecutor() {
+        CompletableFuture<String> original = new CompletableFuture<>();
+        assertSame(original, toCompletableFuture(toListenableFuture(original), CallbackExecutors.directExecutor()));
+    }
+
+    @Test
+    public void shouldNotOverflowStackWhenCompletingLongChain() throws ExecutionException, InterruptedException, TimeoutException {
+        CompletableFuture<Integer> original = new CompletableFuture<>();
+        CompletableFuture<Integer> future = original;
+        for (int i = 0; i < 20_000; i++) {
+            ListenableFuture<Integer> listenable = Futures.transform(
+                toListenableFuture(future, CallbackExecutors.trampolineExecutor()), v -> v + 1, MoreExecutors.directExecutor());
+            future = toCompletableFuture(listenable, CallbackExecutors.trampolineExecutor()).thenApply(v -> v + 1);
+        }
+
+        original.complete(0);
+
+        assertEquals(Integer.valueOf(40_000), future.get(1, TimeUnit.SECONDS));
+    }
 }
@@ -15,17 +15,23 @@
  */
 package net.javacrumbs.futureconverter.java8guava;
 
-import com.google.common.util.concurrent.ListenableFuture;import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
 import net.javacrumbs.futureconverter.common.test.guava.GuavaConvertedFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.java8.Java8OriginalFutureTestHelper;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toCompletableFuture;
+import static java.util.Arrays.asList;
 import static net.javacrumbs.futureconverter.java8guava.FutureConverter.toListenableFuture;
+import static org.junit.Assert.assertEquals;
 
 
 public class ToListenableFutureConverterTest extends AbstractConverterHelperBasedTest<
@@ -53,4 +59,18 @@ public class ToListenableFutureConverterTest extends AbstractConverterHelperBase
         // completable futures can not be canceled
     }
 
+    @Test
+    public void shouldRegisterOnlyOneCallbackForMultipleListeners() {
+        CompletableFuture<String> original = new CompletableFuture<>();
+        ListenableFuture<String> converted = convert(original);
+        List<Integer> calls = new ArrayList<>();
+        converted.addListener(() -> calls.add(1), MoreExecutors.directExecutor());
+        converted.addListener(() -> calls.add(2), MoreExecutors.directExecutor());
+        converted.addListener(() -> calls.add(3), MoreExecutors.directExecutor());
+
+        assertEquals(1, original.getNumberOfDependents());
+
+        original.complete(VALUE);
+        assertEquals(asList(1, 2, 3), calls);
+    }
 }
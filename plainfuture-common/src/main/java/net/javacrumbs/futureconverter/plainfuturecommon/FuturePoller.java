@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Watches futures that do not support callbacks. All the futures are checked by one daemon thread in a loop.
+ * If no future completes, the thread backs off exponentially up to the maximal interval, so long running futures
+ * cost almost nothing. If there is nothing to watch, the thread parks until a future is added. Custom pollers
+ * have to be closed to stop the thread, the default poller lives as long as the JVM.
+ */
+public class FuturePoller implements AutoCloseable {
+    private static final FuturePoller DEFAULT = new FuturePoller("future-converter-poller", 100, 10_000, TimeUnit.MICROSECONDS);
+
+    private static final Logger log = Logger.getLogger(FuturePoller.class.getName());
+
+    private final String threadName;
+    private final long minIntervalNanos;
+    private final long maxIntervalNanos;
+    private final Queue<Watch> added = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile Thread thread;
+    private volatile boolean idle = false;
+    private volatile boolean closed = false;
+
+    public FuturePoller(String threadName, long minInterval, long maxInterval, TimeUnit unit) {
+        if (minInterval <= 0 || maxInterval < minInterval) {
+            throw new IllegalArgumentException("Intervals have to be positive and max interval can not be smaller than min interval");
+        }
+        this.threadName = threadName;
+        this.minIntervalNanos = unit.toNanos(minInterval);
+        this.maxIntervalNanos = unit.toNanos(maxInterval);
+    }
+
+    /**
+     * Poller used by default. Checks the futures every 100 microseconds, backs off up to 10 milliseconds.
+     */
+    public static FuturePoller getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Runs the callback on the poller thread once the future is done.
+     */
+    public void watch(Future<?> future, Runnable callback) {
+        if (closed) {
+            throw new IllegalStateException("Poller is closed");
+        }
+        added.add(new Watch(future, callback));
+        if (started.compareAndSet(false, true)) {
+            Thread pollerThread = new Thread(this::poll, threadName);
+            pollerThread.setDaemon(true);
+            thread = pollerThread;
+            pollerThread.start();
+        } else if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Stops the poller thread. Callbacks of futures that are still watched are not called.
+     */
+    @Override
+    public void close() {
+        if (this == DEFAULT) {
+            throw new UnsupportedOperationException("Default poller can not be closed");
+        }
+        closed = true;
+        Thread pollerThread = thread;
+        if (pollerThread != null) {
+            LockSupport.unpark(pollerThread);
+        }
+    }
+
+    private void poll() {
+        List<Watch> watches = new ArrayList<>();
+        long interval = minIntervalNanos;
+        while (!closed) {
+            // nobody is supposed to interrupt us, the flag would prevent parking
+            Thread.interrupted();
+            boolean changed = drainAdded(watches);
+            changed |= checkWatches(watches);
+            if (watches.isEmpty()) {
+                idle = true;
+                if (added.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                interval = minIntervalNanos;
+            } else {
+                interval = changed ? minIntervalNanos : Math.min(interval * 2, maxIntervalNanos);
+                LockSupport.parkNanos(this, interval);
+            }
+        }
+    }
+
+    private boolean drainAdded(List<Watch> watches) {
+        boolean drained = false;
+        Watch watch;
+        while ((watch = added.poll()) != null) {
+            watches.add(watch);
+            drained = true;
+        }
+        return drained;
+    }
+
+    /**
+     * Checks all the futures in one pass. Finished watches are removed by moving the last one to their place.
+     */
+    private boolean checkWatches(List<Watch> watches) {
+        boolean completed = false;
+        int i = 0;
+        while (i < watches.size()) {
+            Watch watch = watches.get(i);
+            if (watch.future.isDone()) {
+                int last = watches.size() - 1;
+                watches.set(i, watches.get(last));
+                watches.remove(last);
+                watch.run();
+                completed = true;
+            } else {
+                i++;
+            }
+        }
+        return completed;
+    }
+
+    private static final class Watch {
+        private final Future<?> future;
+        private final Runnable callback;
+
+        private Watch(Future<?> future, Runnable callback) {
+            this.future = future;
+            this.callback = callback;
+        }
+
+        /**
+         * One failing callback should not stop the poller. Errors are caught as well, otherwise they would kill
+         * the poller thread and no other future would ever be reported as done.
+         */
+        private void run() {
+            try {
+                callback.run();
+            } catch (Throwable e) {
+                log.log(Level.SEVERE, "Exception while calling callback " + callback, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.ConvertibleFutureTask;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * Converts plain {@link java.util.concurrent.Future} that does not support callbacks. Completion of such futures
+ * is detected by {@link FuturePoller} so no thread is blocked waiting for them. {@link ConvertibleFutureTask}
+ * notifies about its completion itself, so it is not polled.
+ */
+public class PlainFutureUtils {
+    // *************************************** Converting to Future ******************************************
+
+    /**
+     * Every converted future is a Future, we only return the original future if there is one.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Future<T> createFuture(ValueSourceFuture<T> valueSourceFuture) {
+        Future<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSourceFuture, Future.class);
+        if (originalFuture != null) {
+            return originalFuture;
+        } else {
+            return valueSourceFuture;
+        }
+    }
+
+    // *************************************** Converting from Future ******************************************
+
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(Future<T> future) {
+        return createValueSourceFuture(future, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(Future<T> future, Executor executor) {
+        return createValueSourceFuture(future, FuturePoller.getDefault(), executor);
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor. Completion of the future
+     * is detected by the poller. Listeners are notified on the poller thread if the executor does not say otherwise,
+     * so long running listeners should be executed using a thread pool.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(Future<T> future, FuturePoller poller, Executor executor) {
+        if (future instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) future, executor);
+        } else if (future instanceof ConvertibleFutureTask) {
+            return ((ConvertibleFutureTask<T>) future).toValueSourceFuture(executor);
+        } else {
+            return new PolledValueSourceFuture<>(future, poller, executor);
+        }
+    }
+
+    public static <T> ValueSource<T> createValueSource(Future<T> future) {
+        return createValueSourceFuture(future);
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(Future<T> future, Executor executor) {
+        return createValueSourceFuture(future, executor);
+    }
+
+    /**
+     * Wraps Future and exposes it as ValueSourceFuture. Futures that are also CompletionStage are not polled.
+     */
+    private static class PolledValueSourceFuture<T> extends ValueSourceFuture<T> {
+        private final FuturePoller poller;
+        private final Executor executor;
+
+        private PolledValueSourceFuture(Future<T> wrappedFuture, FuturePoller poller, Executor executor) {
+            super(wrappedFuture);
+            this.poller = poller;
+            this.executor = executor;
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            Listener<T> listener = ExecutorListener.wrap(originalListener, executor);
+            Future<T> wrappedFuture = getWrappedFuture();
+            if (wrappedFuture.isDone()) {
+                notifyListener(listener);
+            } else if (wrappedFuture instanceof CompletionStage) {
+                ((CompletionStage<?>) wrappedFuture).whenComplete((value, failure) -> notifyListener(listener));
+            } else {
+                poller.watch(wrappedFuture, () -> notifyListener(listener));
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import net.javacrumbs.futureconverter.common.ConvertibleExecutorService;
+import net.javacrumbs.futureconverter.common.ConvertibleFutureTask;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
+import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.plainfuture.ConvertibleFutureTaskOriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConvertibleFutureTaskToCompletableFutureConverterTest extends AbstractConverterHelperBasedTest<ConvertibleFutureTask<String>, CompletableFuture<String>> {
+
+    public ConvertibleFutureTaskToCompletableFutureConverterTest() {
+        super(new ConvertibleFutureTaskOriginalFutureTestHelper(), new Java8ConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected CompletableFuture<String> convert(ConvertibleFutureTask<String> originalFuture) {
+        return Java8FutureUtils.createCompletableFuture(originalFuture.toValueSourceFuture());
+    }
+
+    @Override
+    protected ConvertibleFutureTask<String> convertBack(CompletableFuture<String> converted) {
+        return (ConvertibleFutureTask<String>) PlainFutureUtils.createFuture(Java8FutureUtils.createValueSourceFuture(converted));
+    }
+
+    @Test
+    public void cancelShouldInterruptTheTask() throws InterruptedException {
+        ConvertibleExecutorService executorService = new ConvertibleExecutorService(ForkJoinPool.commonPool());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        ConvertibleFutureTask<String> task = executorService.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return VALUE;
+        });
+        CompletableFuture<String> converted = convert(task);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertTrue(converted.cancel(true));
+
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void shouldNotifyFromTheTaskThread() throws InterruptedException {
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+        ConvertibleFutureTask<String> task = new ConvertibleFutureTask<>(() -> {
+            taskThread.set(Thread.currentThread());
+            return VALUE;
+        });
+        AtomicReference<Thread> callbackThread = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        Java8FutureUtils.createCompletableFuture(PlainFutureUtils.createValueSourceFuture(task)).thenAccept(value -> {
+            assertEquals(VALUE, value);
+            callbackThread.set(Thread.currentThread());
+            latch.countDown();
+        });
+
+        Thread thread = new Thread(task);
+        thread.start();
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertSame(taskThread.get(), callbackThread.get());
+    }
+
+    @Test
+    public void errorThrownByOneListenerShouldNotPreventOtherConversions() {
+        ConvertibleFutureTask<String> task = new ConvertibleFutureTask<>(() -> VALUE);
+        task.toValueSourceFuture().addListener(new ValueSource.Listener<String>() {
+            @Override
+            public void onSuccess(String value) {
+                throw new AssertionError("Test error");
+            }
+
+            @Override
+            public void onFailure(Throwable failure) {
+            }
+        });
+        CompletableFuture<String> converted = convert(task);
+
+        task.run();
+
+        assertEquals(VALUE, converted.getNow(null));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import net.javacrumbs.futureconverter.common.ConvertibleFutureTask;
+import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
+import net.javacrumbs.futureconverter.common.test.guava.GuavaConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.plainfuture.ConvertibleFutureTaskOriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+
+public class ConvertibleFutureTaskToListenableFutureConverterTest extends AbstractConverterHelperBasedTest<ConvertibleFutureTask<String>, ListenableFuture<String>> {
+
+    public ConvertibleFutureTaskToListenableFutureConverterTest() {
+        super(new ConvertibleFutureTaskOriginalFutureTestHelper(), new GuavaConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected ListenableFuture<String> convert(ConvertibleFutureTask<String> originalFuture) {
+        return GuavaFutureUtils.createListenableFuture(originalFuture.toValueSourceFuture());
+    }
+
+    @Override
+    protected ConvertibleFutureTask<String> convertBack(ListenableFuture<String> converted) {
+        return (ConvertibleFutureTask<String>) PlainFutureUtils.createFuture(GuavaFutureUtils.createValueSourceFuture(converted));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FuturePollerTest {
+    private final FuturePoller poller = new FuturePoller("test-poller", 1, 5, TimeUnit.MILLISECONDS);
+
+    @After
+    public void closePoller() {
+        poller.close();
+    }
+
+    @Test
+    public void shouldWatchManyFuturesUsingOneThread() throws InterruptedException {
+        int count = 1000;
+        CountDownLatch latch = new CountDownLatch(count);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        List<FutureTask<String>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            FutureTask<String> future = new FutureTask<>(() -> "value");
+            futures.add(future);
+            poller.watch(future, () -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+        futures.forEach(FutureTask::run);
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(1, threads.size());
+        assertEquals("test-poller", threads.iterator().next().getName());
+    }
+
+    @Test
+    public void shouldWakeUpAfterBeingIdle() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            CountDownLatch latch = new CountDownLatch(1);
+            CompletableFuture<String> future = new CompletableFuture<>();
+            poller.watch(future, latch::countDown);
+            future.complete("value");
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void shouldSurviveFailingCallback() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        poller.watch(CompletableFuture.completedFuture("value"), () -> {
+            throw new IllegalStateException("Test");
+        });
+        poller.watch(CompletableFuture.completedFuture("value"), latch::countDown);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void closeShouldStopThePollerThread() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        poller.watch(CompletableFuture.completedFuture("value"), () -> {
+            threads.add(Thread.currentThread());
+            latch.countDown();
+        });
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+
+        poller.close();
+
+        Thread thread = threads.iterator().next();
+        thread.join(1000);
+        assertFalse(thread.isAlive());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotWatchAfterClose() {
+        poller.close();
+        poller.watch(new CompletableFuture<>(), () -> {
+        });
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotCloseDefaultPoller() {
+        FuturePoller.getDefault().close();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidIntervals() {
+        new FuturePoller("test-poller", 10, 5, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldSurviveErrorThrownByCallback() throws InterruptedException {
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        poller.watch(failing, () -> {
+            throw new AssertionError("Test error");
+        });
+        failing.complete("value");
+        Thread.sleep(20);
+
+        poller.watch(future, latch::countDown);
+        future.complete("value");
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+    }
+}
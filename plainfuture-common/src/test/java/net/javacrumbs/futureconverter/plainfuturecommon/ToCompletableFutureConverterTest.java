@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
+import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.plainfuture.PlainFutureOriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+public class ToCompletableFutureConverterTest extends AbstractConverterHelperBasedTest<Future<String>, CompletableFuture<String>> {
+
+    public ToCompletableFutureConverterTest() {
+        super(new PlainFutureOriginalFutureTestHelper(), new Java8ConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected CompletableFuture<String> convert(Future<String> originalFuture) {
+        return Java8FutureUtils.createCompletableFuture(PlainFutureUtils.createValueSourceFuture(originalFuture));
+    }
+
+    @Override
+    protected Future<String> convertBack(CompletableFuture<String> converted) {
+        return PlainFutureUtils.createFuture(Java8FutureUtils.createValueSourceFuture(converted));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.plainfuturecommon;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import net.javacrumbs.futureconverter.common.test.AbstractConverterHelperBasedTest;
+import net.javacrumbs.futureconverter.common.test.guava.GuavaConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.plainfuture.PlainFutureOriginalFutureTestHelper;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+
+import java.util.concurrent.Future;
+
+public class ToListenableFutureConverterTest extends AbstractConverterHelperBasedTest<Future<String>, ListenableFuture<String>> {
+
+    public ToListenableFutureConverterTest() {
+        super(new PlainFutureOriginalFutureTestHelper(), new GuavaConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected ListenableFuture<String> convert(Future<String> originalFuture) {
+        return GuavaFutureUtils.createListenableFuture(PlainFutureUtils.createValueSourceFuture(originalFuture));
+    }
+
+    @Override
+    protected Future<String> convertBack(ListenableFuture<String> converted) {
+        return PlainFutureUtils.createFuture(GuavaFutureUtils.createValueSourceFuture(converted));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.reactorcommon;
+
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.spi.FutureAdapter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Registers Reactor Mono conversions for {@link java.util.ServiceLoader}.
+ */
+public class ReactorFutureAdapter implements FutureAdapter {
+    @Override
+    public Class<?> getFutureType() {
+        return Mono.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ValueSource<T> createValueSource(Object future) {
+        return ReactorFutureUtils.createValueSource((Mono<T>) future);
+    }
+
+    @Override
+    public <T> Object createFuture(ValueSource<T> valueSource) {
+        return ReactorFutureUtils.createMono(valueSource);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.reactorcommon;
+
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.Fuseable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class ReactorFutureUtils {
+    public static <T> Mono<T> createMono(ValueSource<T> valueSource) {
+        ValueSource<T> root = valueSource.getRoot();
+        if (root instanceof MonoBackedValueSource) {
+            return ((MonoBackedValueSource<T>) root).getMono();
+        }
+        return new ValueSourceBackedMono<>(valueSource);
+    }
+
+    public static <T> ValueSource<T> createValueSource(Mono<T> mono) {
+        return createValueSource(mono, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(Mono<T> mono, Executor executor) {
+        // ValueSource of ValueSourceBackedMono is returned only if it's a Future, other value sources
+        // may not support more listeners. We can still get to them using getRoot().
+        if (mono instanceof ValueSourceBackedMono &&
+            ((ValueSourceBackedMono<T>) mono).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedMono<T>) mono).getValueSource(), executor);
+        } else {
+            return new MonoBackedValueSource<>(mono, executor);
+        }
+    }
+
+    /**
+     * Subscribes to the Mono when the listener is added. Scalar Monos (Mono.just, Mono.error, Mono.empty)
+     * are evaluated right away, so the target future is created completed and no subscription is needed.
+     */
+    private static class MonoBackedValueSource<T> implements ValueSource<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<MonoBackedValueSource, Object> SUBSCRIPTION =
+            AtomicReferenceFieldUpdater.newUpdater(MonoBackedValueSource.class, Object.class, "subscription");
+
+        private static final Object CANCELLED = new Object();
+        private static final Object DONE = new Object();
+
+        private final Mono<T> mono;
+        private final Executor executor;
+        private State state = State.PENDING;
+        private T value;
+        private Throwable failure;
+
+        /**
+         * null before subscription, the subscriber when subscribed, CANCELLED if cancelled before or after
+         * subscription and DONE when completed. The subscriber is created before subscribing and can be
+         * disposed before it gets the Subscription, so no intermediate state is needed.
+         */
+        private volatile Object subscription;
+
+        private MonoBackedValueSource(Mono<T> mono, Executor executor) {
+            this.mono = mono;
+            this.executor = executor;
+            if (mono instanceof Fuseable.ScalarCallable) {
+                try {
+                    value = ((Fuseable.ScalarCallable<T>) mono).call();
+                    state = State.SUCCESS;
+                } catch (Throwable e) {
+                    failure = Exceptions.unwrap(e);
+                    state = State.FAILURE;
+                }
+            }
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            switch (state) {
+                case SUCCESS:
+                    originalListener.onSuccess(value);
+                    break;
+                case FAILURE:
+                    originalListener.onFailure(failure);
+                    break;
+                default:
+                    ListenerSubscriber<T> subscriber = new ListenerSubscriber<>(ExecutorListener.wrap(originalListener, executor), this);
+                    if (SUBSCRIPTION.compareAndSet(this, null, subscriber)) {
+                        mono.subscribe(subscriber);
+                    } else if (subscription != CANCELLED) {
+                        throw new IllegalStateException("add callbacks can be called only once");
+                    }
+            }
+        }
+
+        /**
+         * Cancel before subscription prevents the subscription, cancel after completion does nothing.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (state != State.PENDING) {
+                return false;
+            }
+            while (true) {
+                Object currentSubscription = subscription;
+                if (currentSubscription == CANCELLED || currentSubscription == DONE) {
+                    return false;
+                }
+                if (SUBSCRIPTION.compareAndSet(this, currentSubscription, CANCELLED)) {
+                    if (currentSubscription instanceof Disposable) {
+                        ((Disposable) currentSubscription).dispose();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Returns false if cancelled, the listener should not be notified then.
+         */
+        private boolean markDone() {
+            return SUBSCRIPTION.getAndSet(this, DONE) != CANCELLED;
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        @Override
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        @Override
+        public ValueSource<T> getRoot() {
+            if (mono instanceof ValueSourceBackedMono) {
+                return ((ValueSourceBackedMono<T>) mono).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
+        private Mono<T> getMono() {
+            return mono;
+        }
+    }
+
+    /**
+     * Empty Mono completes without a value, the listener gets null.
+     */
+    private static class ListenerSubscriber<T> extends BaseSubscriber<T> {
+        private final ValueSource.Listener<T> listener;
+        private final MonoBackedValueSource<T> valueSource;
+        private boolean hasValue = false;
+
+        private ListenerSubscriber(ValueSource.Listener<T> listener, MonoBackedValueSource<T> valueSource) {
+            this.listener = listener;
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        protected void hookOnNext(T value) {
+            hasValue = true;
+            if (valueSource.markDone()) {
+                listener.onSuccess(value);
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            if (!hasValue && valueSource.markDone()) {
+                listener.onSuccess(null);
+            }
+        }
+
+        @Override
+        protected void hookOnError(Throwable failure) {
+            if (valueSource.markDone()) {
+                listener.onFailure(failure);
+            }
+        }
+    }
+
+    private static class ValueSourceBackedMono<T> extends Mono<T> {
+        private final ValueSource<T> valueSource;
+
+        ValueSourceBackedMono(ValueSource<T> valueSource) {
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        public void subscribe(CoreSubscriber<? super T> actual) {
+            ValueSourceSubscription<T> subscription = new ValueSourceSubscription<>(actual, valueSource);
+            // onSubscribe has to be called first, the value source may already be completed
+            actual.onSubscribe(subscription);
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    subscription.onSuccess(valueSource.getValue());
+                    break;
+                case FAILURE:
+                case CANCELLED:
+                    subscription.onFailure(valueSource.getFailure());
+                    break;
+                default:
+                    if (!subscription.isCancelled()) {
+                        valueSource.addListener(subscription);
+                    }
+            }
+        }
+
+        private ValueSource<T> getValueSource() {
+            return valueSource;
+        }
+    }
+
+    /**
+     * The value is emitted only after it has been requested. Cancellation is propagated to the value source.
+     */
+    private static class ValueSourceSubscription<T> implements Subscription, ValueSource.Listener<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<ValueSourceSubscription> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(ValueSourceSubscription.class, "state");
+
+        private static final int NO_REQUEST_NO_VALUE = 0;
+        private static final int HAS_REQUEST_NO_VALUE = 1;
+        private static final int NO_REQUEST_HAS_VALUE = 2;
+        private static final int DONE = 3;
+        private static final int CANCELLED = 4;
+
+        private final CoreSubscriber<? super T> actual;
+        private final ValueSource<T> valueSource;
+        private volatile int state;
+        private T value;
+
+        private ValueSourceSubscription(CoreSubscriber<? super T> actual, ValueSource<T> valueSource) {
+            this.actual = actual;
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                while (true) {
+                    int currentState = state;
+                    if (currentState == NO_REQUEST_HAS_VALUE) {
+                        if (STATE.compareAndSet(this, NO_REQUEST_HAS_VALUE, DONE)) {
+                            emit(value);
+                        }
+                        return;
+                    } else if (currentState != NO_REQUEST_NO_VALUE ||
+                        STATE.compareAndSet(this, NO_REQUEST_NO_VALUE, HAS_REQUEST_NO_VALUE)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            if (value == null) {
+                if (terminate()) {
+                    actual.onComplete();
+                }
+                return;
+            }
+            this.value = value;
+            while (true) {
+                int currentState = state;
+                if (currentState == HAS_REQUEST_NO_VALUE) {
+                    if (STATE.compareAndSet(this, HAS_REQUEST_NO_VALUE, DONE)) {
+                        emit(value);
+                    }
+                    return;
+                } else if (currentState != NO_REQUEST_NO_VALUE ||
+                    STATE.compareAndSet(this, NO_REQUEST_NO_VALUE, NO_REQUEST_HAS_VALUE)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            if (terminate()) {
+                actual.onError(failure);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            while (true) {
+                int currentState = state;
+                if (currentState >= DONE) {
+                    return;
+                }
+                if (STATE.compareAndSet(this, currentState, CANCELLED)) {
+                    value = null;
+                    valueSource.cancel(true);
+                    return;
+                }
+            }
+        }
+
+        private boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Moves to DONE state if no value has been received yet.
+         */
+        private boolean terminate() {
+            while (true) {
+                int currentState = state;
+                if (currentState >= NO_REQUEST_HAS_VALUE) {
+                    return false;
+                }
+                if (STATE.compareAndSet(this, currentState, DONE)) {
+                    return true;
+                }
+            }
+        }
+
+        private void emit(T value) {
+            actual.onNext(value);
+            actual.onComplete();
+        }
+    }
+}
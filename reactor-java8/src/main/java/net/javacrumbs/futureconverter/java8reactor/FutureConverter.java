@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.java8reactor;
+
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.reactorcommon.ReactorFutureUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Converts between Java 8 {@link java.util.concurrent.CompletableFuture} and Reactor {@link reactor.core.publisher.Mono}
+ */
+public class FutureConverter {
+
+    /**
+     * Converts {@link java.util.concurrent.CompletableFuture} to {@link reactor.core.publisher.Mono}.
+     * The original future is canceled when the subscription is cancelled.
+     */
+    public static <T> Mono<T> toMono(CompletableFuture<T> completableFuture) {
+        return ReactorFutureUtils.createMono(Java8FutureUtils.createValueSource(completableFuture));
+    }
+
+    /**
+     * Converts {@link java.util.concurrent.CompletableFuture} to {@link reactor.core.publisher.Mono}.
+     * The original future is canceled when the subscription is cancelled.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Mono<T> toMono(CompletableFuture<T> completableFuture, Executor executor) {
+        return ReactorFutureUtils.createMono(Java8FutureUtils.createValueSource(completableFuture, executor));
+    }
+
+    /**
+     * Converts {@link reactor.core.publisher.Mono} to {@link java.util.concurrent.CompletableFuture}.
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(Mono<T> mono) {
+        return Java8FutureUtils.createCompletableFuture(ReactorFutureUtils.createValueSource(mono));
+    }
+
+    /**
+     * Converts {@link reactor.core.publisher.Mono} to {@link java.util.concurrent.CompletableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(Mono<T> mono, Executor executor) {
+        return Java8FutureUtils.createCompletableFuture(ReactorFutureUtils.createValueSource(mono, executor));
+    }
+}
@@ -15,50 +15,157 @@
  */
 package net.javacrumbs.futureconverter.rxjavacommon;
 
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
 import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
 import rx.Single;
+import rx.SingleSubscriber;
 import rx.Subscription;
+import rx.internal.util.ScalarSynchronousSingle;
 import rx.subscriptions.Subscriptions;
 
-import java.util.function.Consumer;
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 public class RxJavaFutureUtils {
     public static <T> Single<T> createSingle(ValueSource<T> valueSource) {
-        if (valueSource instanceof SingleBackedValueSource) {
-            return ((SingleBackedValueSource<T>) valueSource).getSingle();
+        ValueSource<T> root = valueSource.getRoot();
+        if (root instanceof SingleBackedValueSource) {
+            return ((SingleBackedValueSource<T>) root).getSingle();
         }
         return new ValueSourceBackedSingle<>(valueSource);
     }
 
     public static <T> ValueSource<T> createValueSource(Single<T> single) {
-        if (single instanceof ValueSourceBackedSingle) {
-            return ((ValueSourceBackedSingle<T>) single).getValueSource();
+        return createValueSource(single, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(Single<T> single, Executor executor) {
+        // ValueSource of ValueSourceBackedSingle is returned only if it's a Future, other value sources
+        // may not support more listeners. We can still get to them using getRoot().
+        if (single instanceof ValueSourceBackedSingle &&
+            ((ValueSourceBackedSingle<T>) single).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedSingle<T>) single).getValueSource(), executor);
         } else {
-            return new SingleBackedValueSource<>(single);
+            return new SingleBackedValueSource<>(single, executor);
         }
     }
 
+    /**
+     * Subscribes to the Single when the listener is added. Value of Single.just is taken right away, so the target
+     * future is created completed and no subscription is needed.
+     */
     private static class SingleBackedValueSource<T> implements ValueSource<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<SingleBackedValueSource, Object> SUBSCRIPTION =
+            AtomicReferenceFieldUpdater.newUpdater(SingleBackedValueSource.class, Object.class, "subscription");
+
+        private static final Object CANCELLED = new Object();
+        private static final Object DONE = new Object();
+
         private final Single<T> single;
-        private Subscription subscription;
+        private final Executor executor;
+        private State state = State.PENDING;
+        private T value;
+
+        /**
+         * null before subscription, the subscriber when subscribed, CANCELLED if cancelled before or after
+         * subscription and DONE when completed.
+         */
+        private volatile Object subscription;
 
-        private SingleBackedValueSource(Single<T> single) {
+        private SingleBackedValueSource(Single<T> single, Executor executor) {
             this.single = single;
+            this.executor = executor;
+            if (single instanceof ScalarSynchronousSingle) {
+                value = ((ScalarSynchronousSingle<T>) single).get();
+                state = State.SUCCESS;
+            }
         }
 
         @Override
-        public void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
-            if (subscription == null) {
-                subscription = single.subscribe(successCallback::accept, failureCallback::accept);
-            } else {
+        public void addListener(Listener<T> originalListener) {
+            if (state == State.SUCCESS) {
+                originalListener.onSuccess(value);
+                return;
+            }
+            // the subscriber is a Subscription, so it can be unsubscribed even before the subscription is done
+            ListenerSubscriber subscriber = new ListenerSubscriber(ExecutorListener.wrap(originalListener, executor));
+            if (SUBSCRIPTION.compareAndSet(this, null, subscriber)) {
+                single.subscribe(subscriber);
+            } else if (subscription != CANCELLED) {
                 throw new IllegalStateException("add callbacks can be called only once");
             }
         }
 
+        /**
+         * Cancel before subscription prevents the subscription, cancel after completion does nothing.
+         */
         @Override
         public boolean cancel(boolean mayInterruptIfRunning) {
-            subscription.unsubscribe();
-            return true;
+            if (state != State.PENDING) {
+                return false;
+            }
+            while (true) {
+                Object currentSubscription = subscription;
+                if (currentSubscription == CANCELLED || currentSubscription == DONE) {
+                    return false;
+                }
+                if (SUBSCRIPTION.compareAndSet(this, currentSubscription, CANCELLED)) {
+                    if (currentSubscription instanceof Subscription) {
+                        ((Subscription) currentSubscription).unsubscribe();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public State getState() {
+            return state;
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        private class ListenerSubscriber extends SingleSubscriber<T> {
+            private final Listener<T> listener;
+
+            private ListenerSubscriber(Listener<T> listener) {
+                this.listener = listener;
+            }
+
+            @Override
+            public void onSuccess(T value) {
+                if (SUBSCRIPTION.getAndSet(SingleBackedValueSource.this, DONE) != CANCELLED) {
+                    listener.onSuccess(value);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (SUBSCRIPTION.getAndSet(SingleBackedValueSource.this, DONE) != CANCELLED) {
+                    listener.onFailure(error);
+                }
+            }
+        }
+
+        @Override
+        public ValueSource<T> getRoot() {
+            if (single instanceof ValueSourceBackedSingle) {
+                return ((ValueSourceBackedSingle<T>) single).getValueSource().getRoot();
+            } else {
+                return this;
+            }
         }
 
         private Single<T> getSingle() {
@@ -70,32 +177,173 @@ public class RxJavaFutureUtils {
         private final ValueSource<T> valueSource;
 
         ValueSourceBackedSingle(ValueSource<T> valueSource) {
-            super(onSubscribe(valueSource));
+            super(new MulticastingOnSubscribe<>(valueSource));
             this.valueSource = valueSource;
         }
 
-        private static <T> OnSubscribe<T> onSubscribe(final ValueSource<T> valueSource) {
-            return subscriber -> {
-                valueSource.addCallbacks(value -> {
-                        if (!subscriber.isUnsubscribed()) {
-                            try {
-                                subscriber.onSuccess(value);
-                            } catch (Throwable e) {
-                                subscriber.onError(e);
-                            }
-                        }
-                    },
-                    throwable -> {
-                        if (!subscriber.isUnsubscribed()) {
-                            subscriber.onError(throwable);
-                        }
-                    });
-                subscriber.add(Subscriptions.create(() -> valueSource.cancel(true)));
-            };
-        }
-
         private ValueSource<T> getValueSource() {
             return valueSource;
         }
     }
+
+    /**
+     * Registers only one listener on the value source no matter how many times the Single is subscribed to.
+     * The result is cached and replayed to all the subscribers, so the Single can be retried or zipped even if
+     * the value source supports only one listener. The value source is cancelled when the last subscriber
+     * unsubscribes. Completed value source is emitted right away, there is nothing to listen to and nothing to cancel.
+     */
+    private static class MulticastingOnSubscribe<T> implements Single.OnSubscribe<T>, ValueSource.Listener<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<MulticastingOnSubscribe, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(MulticastingOnSubscribe.class, Object.class, "state");
+
+        private static final Object CANCELLED = new Object();
+
+        private final ValueSource<T> valueSource;
+
+        /**
+         * null before the first subscription, array of subscribers while waiting for the result, {@link Result}
+         * when done and CANCELLED when all the subscribers have unsubscribed before the value source completed.
+         */
+        private volatile Object state;
+
+        private MulticastingOnSubscribe(ValueSource<T> valueSource) {
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void call(SingleSubscriber<? super T> subscriber) {
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    emitSuccess(subscriber, valueSource.getValue());
+                    return;
+                case FAILURE:
+                case CANCELLED:
+                    subscriber.onError(valueSource.getFailure());
+                    return;
+                default:
+            }
+            while (!subscriber.isUnsubscribed()) {
+                Object currentState = state;
+                if (currentState instanceof Result) {
+                    emit(subscriber, (Result<T>) currentState);
+                    return;
+                } else if (currentState == CANCELLED) {
+                    emit(subscriber, new Result<>(null, new CancellationException()));
+                    return;
+                }
+                SingleSubscriber<? super T>[] subscribers = (SingleSubscriber<? super T>[]) currentState;
+                if (STATE.compareAndSet(this, currentState, add(subscribers, subscriber))) {
+                    if (subscribers == null) {
+                        valueSource.addListener(this);
+                    }
+                    subscriber.add(Subscriptions.create(() -> remove(subscriber)));
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            complete(new Result<>(value, null));
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            complete(new Result<>(null, failure));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Result<T> result) {
+            while (true) {
+                Object currentState = state;
+                if (!(currentState instanceof SingleSubscriber[])) {
+                    return;
+                }
+                if (STATE.compareAndSet(this, currentState, result)) {
+                    for (SingleSubscriber<? super T> subscriber : (SingleSubscriber<? super T>[]) currentState) {
+                        emit(subscriber, result);
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Cancels the value source if the last subscriber is removed.
+         */
+        @SuppressWarnings("unchecked")
+        private void remove(SingleSubscriber<? super T> subscriber) {
+            while (true) {
+                Object currentState = state;
+                if (!(currentState instanceof SingleSubscriber[])) {
+                    return;
+                }
+                SingleSubscriber<? super T>[] subscribers = (SingleSubscriber<? super T>[]) currentState;
+                SingleSubscriber<? super T>[] newSubscribers = remove(subscribers, subscriber);
+                if (newSubscribers == subscribers) {
+                    return;
+                }
+                Object newState = newSubscribers.length == 0 ? CANCELLED : newSubscribers;
+                if (STATE.compareAndSet(this, currentState, newState)) {
+                    if (newState == CANCELLED) {
+                        valueSource.cancel(true);
+                    }
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> SingleSubscriber<? super T>[] add(SingleSubscriber<? super T>[] subscribers, SingleSubscriber<? super T> subscriber) {
+            if (subscribers == null) {
+                return new SingleSubscriber[]{subscriber};
+            }
+            SingleSubscriber<? super T>[] result = Arrays.copyOf(subscribers, subscribers.length + 1);
+            result[subscribers.length] = subscriber;
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> SingleSubscriber<? super T>[] remove(SingleSubscriber<? super T>[] subscribers, SingleSubscriber<? super T> subscriber) {
+            for (int i = 0; i < subscribers.length; i++) {
+                if (subscribers[i] == subscriber) {
+                    SingleSubscriber<? super T>[] result = new SingleSubscriber[subscribers.length - 1];
+                    System.arraycopy(subscribers, 0, result, 0, i);
+                    System.arraycopy(subscribers, i + 1, result, i, subscribers.length - i - 1);
+                    return result;
+                }
+            }
+            return subscribers;
+        }
+
+        private static <T> void emit(SingleSubscriber<? super T> subscriber, Result<T> result) {
+            if (result.failure == null) {
+                emitSuccess(subscriber, result.value);
+            } else if (!subscriber.isUnsubscribed()) {
+                subscriber.onError(result.failure);
+            }
+        }
+
+        private static <T> void emitSuccess(SingleSubscriber<? super T> subscriber, T value) {
+            if (!subscriber.isUnsubscribed()) {
+                try {
+                    subscriber.onSuccess(value);
+                } catch (Throwable e) {
+                    subscriber.onError(e);
+                }
+            }
+        }
+    }
+
+    private static final class Result<T> {
+        private final T value;
+        private final Throwable failure;
+
+        private Result(T value, Throwable failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import net.javacrumbs.futureconverter.rxjavacommon.RxJavaFutureUtils;
 import rx.Single;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Converts between Java 8 {@link java.util.concurrent.CompletableFuture} and RxJava {@link rx.Single}
@@ -33,6 +34,14 @@ public class FutureConverter {
         return Java8FutureUtils.createCompletableFuture(RxJavaFutureUtils.createValueSource(single));
     }
 
+    /**
+     * Converts {@link rx.Single} to {@link java.util.concurrent.CompletableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> CompletableFuture<T> toCompletableFuture(Single<T> single, Executor executor) {
+        return Java8FutureUtils.createCompletableFuture(RxJavaFutureUtils.createValueSource(single, executor));
+    }
+
     /**
      * Converts {@link java.util.concurrent.CompletableFuture} to {@link rx.Single}.
      * The original future is canceled upon unsubscribe.
@@ -40,5 +49,14 @@ public class FutureConverter {
     public static <T> Single<T> toSingle(CompletableFuture<T> completableFuture) {
         return RxJavaFutureUtils.createSingle(Java8FutureUtils.createValueSource(completableFuture));
     }
+
+    /**
+     * Converts {@link java.util.concurrent.CompletableFuture} to {@link rx.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(CompletableFuture<T> completableFuture, Executor executor) {
+        return RxJavaFutureUtils.createSingle(Java8FutureUtils.createValueSource(completableFuture, executor));
+    }
 }
 
@@ -15,11 +15,24 @@
  */
 package net.javacrumbs.futureconverter.java8rx;
 
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.rxjava.AbstractSingleToFutureConverterTest;
+import net.javacrumbs.futureconverter.rxjavacommon.RxJavaFutureUtils;
+import org.junit.Test;
 import rx.Single;
+import rx.SingleSubscriber;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ToCompletableFutureConverterTest extends AbstractSingleToFutureConverterTest<CompletableFuture<String>> {
     public ToCompletableFutureConverterTest() {
@@ -35,4 +48,43 @@ public class ToCompletableFutureConverterTest extends AbstractSingleToFutureConv
     protected Single<String> toSingle(CompletableFuture<String> future) {
         return FutureConverter.toSingle(future);
     }
+
+    @Test
+    public void shouldConvertJustWithoutSubscription() throws ExecutionException, InterruptedException {
+        CompletableFuture<String> future = FutureConverter.toCompletableFuture(Single.just(VALUE), command -> {
+            throw new AssertionError("Listener should not be used");
+        });
+
+        assertTrue(future.isDone());
+        assertEquals(VALUE, future.get());
+    }
+
+    @Test
+    public void cancelBeforeSubscriptionShouldPreventIt() {
+        AtomicInteger subscribed = new AtomicInteger();
+        ValueSource<String> valueSource = RxJavaFutureUtils.createValueSource(Single.<String>create(subscriber -> subscribed.incrementAndGet()));
+
+        assertTrue(valueSource.cancel(true));
+        valueSource.addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertEquals(0, subscribed.get());
+        assertFalse(valueSource.cancel(true));
+    }
+
+    @Test
+    public void cancelWhileSubscribingShouldUnsubscribe() {
+        AtomicReference<ValueSource<String>> valueSource = new AtomicReference<>();
+        AtomicReference<SingleSubscriber<? super String>> subscriberRef = new AtomicReference<>();
+        Single<String> single = Single.create(subscriber -> {
+            subscriberRef.set(subscriber);
+            valueSource.get().cancel(true);
+            subscriber.onSuccess(VALUE);
+        });
+        valueSource.set(RxJavaFutureUtils.createValueSource(single));
+
+        valueSource.get().addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertTrue(subscriberRef.get().isUnsubscribed());
+        assertFalse(valueSource.get().cancel(true));
+    }
 }
@@ -17,10 +17,14 @@ package net.javacrumbs.futureconverter.java8rx;
 
 import net.javacrumbs.futureconverter.common.test.java8.Java8OriginalFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.rxjava.AbstractFutureToSingleConverterTest;
+import org.junit.Test;
 import rx.Single;
 
 import java.util.concurrent.CompletableFuture;
 
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+
 public class ToSingleConverterTest extends AbstractFutureToSingleConverterTest<CompletableFuture<String>> {
     public ToSingleConverterTest() {
         super(new Java8OriginalFutureTestHelper());
@@ -35,4 +39,13 @@ public class ToSingleConverterTest extends AbstractFutureToSingleConverterTest<C
     protected CompletableFuture<String> toFuture(Single<String> single) {
         return FutureConverter.toCompletableFuture(single);
     }
+
+    @Test
+    public void shouldEmitCompletedFutureWithoutListener() {
+        Single<String> single = FutureConverter.toSingle(CompletableFuture.completedFuture(VALUE), command -> {
+            throw new AssertionError("Listener should not be used");
+        });
+
+        assertEquals(VALUE, single.toBlocking().value());
+    }
 }
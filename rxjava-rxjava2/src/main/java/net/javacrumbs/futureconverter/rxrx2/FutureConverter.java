@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.rxrx2;
+
+import net.javacrumbs.futureconverter.rxjava2common.RxJava2FutureUtils;
+import net.javacrumbs.futureconverter.rxjavacommon.RxJavaFutureUtils;
+
+import java.util.concurrent.Executor;
+
+public class FutureConverter {
+
+    /**
+     * Converts {@link rx.Single} to {@link io.reactivex.Single}.
+     * The original Single is unsubscribed upon dispose.
+     */
+    public static <T> io.reactivex.Single<T> toRxJava2Single(rx.Single<T> single) {
+        return RxJava2FutureUtils.createSingle(RxJavaFutureUtils.createValueSource(single));
+    }
+
+    /**
+     * Converts {@link rx.Single} to {@link io.reactivex.Single}.
+     * The original Single is unsubscribed upon dispose.
+     * Completion of the original Single is delivered using the executor.
+     */
+    public static <T> io.reactivex.Single<T> toRxJava2Single(rx.Single<T> single, Executor executor) {
+        return RxJava2FutureUtils.createSingle(RxJavaFutureUtils.createValueSource(single, executor));
+    }
+
+    /**
+     * Converts {@link io.reactivex.Single} to {@link rx.Single}.
+     * The original Single is disposed upon unsubscribe.
+     */
+    public static <T> rx.Single<T> toRxJavaSingle(io.reactivex.Single<T> single) {
+        return RxJavaFutureUtils.createSingle(RxJava2FutureUtils.createValueSource(single));
+    }
+
+    /**
+     * Converts {@link io.reactivex.Single} to {@link rx.Single}.
+     * The original Single is disposed upon unsubscribe.
+     * Completion of the original Single is delivered using the executor.
+     */
+    public static <T> rx.Single<T> toRxJavaSingle(io.reactivex.Single<T> single, Executor executor) {
+        return RxJavaFutureUtils.createSingle(RxJava2FutureUtils.createValueSource(single, executor));
+    }
+}
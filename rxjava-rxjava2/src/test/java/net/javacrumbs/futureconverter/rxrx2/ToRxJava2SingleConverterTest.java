@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.rxrx2;
+
+import io.reactivex.disposables.Disposable;
+import io.reactivex.observers.TestObserver;
+import org.junit.Test;
+import rx.Single;
+import rx.subjects.PublishSubject;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJava2Single;
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJavaSingle;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ToRxJava2SingleConverterTest {
+
+    @Test
+    public void testConvertCompleted() {
+        toRxJava2Single(Single.just(VALUE)).test().assertResult(VALUE);
+    }
+
+    @Test
+    public void testConvertFailed() {
+        IOException exception = new IOException("test");
+        toRxJava2Single(Single.<String>error(exception)).test().assertError(exception);
+    }
+
+    @Test
+    public void testConvertPending() {
+        PublishSubject<String> subject = PublishSubject.create();
+        TestObserver<String> observer = toRxJava2Single(subject.toSingle()).test();
+        observer.assertEmpty();
+
+        subject.onNext(VALUE);
+        subject.onCompleted();
+
+        observer.assertResult(VALUE);
+    }
+
+    @Test
+    public void disposeShouldUnsubscribeOriginal() {
+        PublishSubject<String> subject = PublishSubject.create();
+        Disposable disposable = toRxJava2Single(subject.toSingle()).subscribe();
+        assertTrue(subject.hasObservers());
+
+        disposable.dispose();
+
+        assertTrue(disposable.isDisposed());
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    public void shouldReturnOriginalSingleAfterRoundTrip() {
+        Single<String> single = Single.just(VALUE);
+        assertSame(single, toRxJavaSingle(toRxJava2Single(single)));
+    }
+
+    @Test
+    public void shouldShareOneSubscriptionOfOriginal() {
+        PublishSubject<String> subject = PublishSubject.create();
+        AtomicInteger subscriptions = new AtomicInteger();
+        io.reactivex.Single<String> single = toRxJava2Single(subject.toSingle().doOnSubscribe(subscriptions::incrementAndGet));
+
+        TestObserver<String> first = single.test();
+        TestObserver<String> zipped = io.reactivex.Single.zip(single, single, (a, b) -> a + b).test();
+
+        subject.onNext(VALUE);
+        subject.onCompleted();
+
+        first.assertResult(VALUE);
+        zipped.assertResult(VALUE + VALUE);
+        single.test().assertResult(VALUE);
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void onlyLastDisposeShouldUnsubscribeOriginal() {
+        PublishSubject<String> subject = PublishSubject.create();
+        io.reactivex.Single<String> single = toRxJava2Single(subject.toSingle());
+        Disposable first = single.subscribe();
+        Disposable second = single.subscribe();
+
+        first.dispose();
+        assertTrue(subject.hasObservers());
+
+        second.dispose();
+        assertFalse(subject.hasObservers());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.rxrx2;
+
+import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
+import org.junit.Test;
+import rx.Subscription;
+import rx.observers.TestSubscriber;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJava2Single;
+import static net.javacrumbs.futureconverter.rxrx2.FutureConverter.toRxJavaSingle;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ToRxJavaSingleConverterTest {
+
+    @Test
+    public void testConvertCompleted() {
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        toRxJavaSingle(Single.just(VALUE)).subscribe(subscriber);
+
+        subscriber.assertValue(VALUE);
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void testConvertFailed() {
+        IOException exception = new IOException("test");
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        toRxJavaSingle(Single.<String>error(exception)).subscribe(subscriber);
+
+        subscriber.assertError(exception);
+    }
+
+    @Test
+    public void testConvertPending() {
+        SingleSubject<String> subject = SingleSubject.create();
+        TestSubscriber<String> subscriber = new TestSubscriber<>();
+        toRxJavaSingle(subject).subscribe(subscriber);
+        subscriber.assertNoValues();
+
+        subject.onSuccess(VALUE);
+
+        subscriber.assertValue(VALUE);
+        subscriber.assertCompleted();
+    }
+
+    @Test
+    public void unsubscribeShouldDisposeOriginal() {
+        SingleSubject<String> subject = SingleSubject.create();
+        Subscription subscription = toRxJavaSingle(subject).subscribe();
+        assertTrue(subject.hasObservers());
+
+        subscription.unsubscribe();
+
+        assertTrue(subscription.isUnsubscribed());
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    public void shouldReturnOriginalSingleAfterRoundTrip() {
+        Single<String> single = Single.just(VALUE);
+        assertSame(single, toRxJava2Single(toRxJavaSingle(single)));
+    }
+
+    @Test
+    public void shouldShareOneSubscriptionOfOriginal() {
+        SingleSubject<String> subject = SingleSubject.create();
+        AtomicInteger subscriptions = new AtomicInteger();
+        rx.Single<String> single = toRxJavaSingle(subject.doOnSubscribe(d -> subscriptions.incrementAndGet()));
+
+        TestSubscriber<String> first = new TestSubscriber<>();
+        single.subscribe(first);
+        TestSubscriber<String> zipped = new TestSubscriber<>();
+        rx.Single.zip(single, single, (a, b) -> a + b).subscribe(zipped);
+
+        subject.onSuccess(VALUE);
+
+        first.assertValue(VALUE);
+        zipped.assertValue(VALUE + VALUE);
+        TestSubscriber<String> late = new TestSubscriber<>();
+        single.subscribe(late);
+        late.assertValue(VALUE);
+        assertEquals(1, subscriptions.get());
+    }
+
+    @Test
+    public void onlyLastUnsubscribeShouldDisposeOriginal() {
+        SingleSubject<String> subject = SingleSubject.create();
+        rx.Single<String> single = toRxJavaSingle(subject);
+        Subscription first = single.subscribe();
+        Subscription second = single.subscribe();
+
+        first.unsubscribe();
+        assertTrue(subject.hasObservers());
+
+        second.unsubscribe();
+        assertFalse(subject.hasObservers());
+    }
+}
@@ -16,10 +16,28 @@
 package net.javacrumbs.futureconverter.java8rx2;
 
 import io.reactivex.Single;
+import io.reactivex.SingleObserver;
+import io.reactivex.disposables.Disposables;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.rxjava2.AbstractSingleToFutureConverterTest;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.rxjava2common.RxJava2FutureUtils;
+import org.junit.Test;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class ToCompletableFutureConverterTest extends AbstractSingleToFutureConverterTest<CompletableFuture<String>> {
     public ToCompletableFutureConverterTest() {
@@ -35,4 +53,68 @@ public class ToCompletableFutureConverterTest extends AbstractSingleToFutureConv
     protected Single<String> toSingle(CompletableFuture<String> future) {
         return FutureConverter.toSingle(future);
     }
+
+    @Test
+    public void shouldCallCallableSingleOnlyIfAsked() throws ExecutionException, InterruptedException {
+        AtomicInteger subscribed = new AtomicInteger();
+        Single<String> single = new CallableSingle(subscribed);
+
+        CompletableFuture<String> called = Java8FutureUtils.createCompletableFuture(
+            RxJava2FutureUtils.createValueSource(single, CallbackExecutors.directExecutor(), true));
+        assertTrue(called.isDone());
+        assertEquals(VALUE, called.get());
+        assertEquals(0, subscribed.get());
+
+        CompletableFuture<String> subscribedTo = Java8FutureUtils.createCompletableFuture(
+            RxJava2FutureUtils.createValueSource(single, CallbackExecutors.directExecutor()));
+        assertEquals(VALUE, subscribedTo.get());
+        assertEquals(1, subscribed.get());
+    }
+
+    @Test
+    public void cancelBeforeSubscriptionShouldPreventIt() {
+        AtomicInteger subscribed = new AtomicInteger();
+        ValueSource<String> valueSource = RxJava2FutureUtils.createValueSource(Single.<String>never().doOnSubscribe(d -> subscribed.incrementAndGet()));
+
+        assertTrue(valueSource.cancel(true));
+        valueSource.addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertEquals(0, subscribed.get());
+        assertFalse(valueSource.cancel(true));
+    }
+
+    @Test
+    public void cancelWhileSubscribingShouldDispose() {
+        AtomicReference<ValueSource<String>> valueSource = new AtomicReference<>();
+        AtomicBoolean disposed = new AtomicBoolean();
+        Single<String> single = Single.<String>never()
+            .doOnDispose(() -> disposed.set(true))
+            .doOnSubscribe(d -> valueSource.get().cancel(true));
+        valueSource.set(RxJava2FutureUtils.createValueSource(single));
+
+        valueSource.get().addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertTrue(disposed.get());
+        assertFalse(valueSource.get().cancel(true));
+    }
+
+    private static class CallableSingle extends Single<String> implements Callable<String> {
+        private final AtomicInteger subscribed;
+
+        private CallableSingle(AtomicInteger subscribed) {
+            this.subscribed = subscribed;
+        }
+
+        @Override
+        public String call() {
+            return VALUE;
+        }
+
+        @Override
+        protected void subscribeActual(SingleObserver<? super String> observer) {
+            subscribed.incrementAndGet();
+            observer.onSubscribe(Disposables.empty());
+            observer.onSuccess(VALUE);
+        }
+    }
 }
@@ -18,9 +18,12 @@ package net.javacrumbs.futureconverter.java8rx2;
 import io.reactivex.Single;
 import net.javacrumbs.futureconverter.common.test.java8.Java8OriginalFutureTestHelper;
 import net.javacrumbs.futureconverter.common.test.rxjava2.AbstractFutureToSingleConverterTest;
+import org.junit.Test;
 
 import java.util.concurrent.CompletableFuture;
 
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+
 public class ToSingleConverterTest extends AbstractFutureToSingleConverterTest<CompletableFuture<String>> {
     public ToSingleConverterTest() {
         super(new Java8OriginalFutureTestHelper());
@@ -35,4 +38,13 @@ public class ToSingleConverterTest extends AbstractFutureToSingleConverterTest<C
     protected CompletableFuture<String> toFuture(Single<String> single) {
         return FutureConverter.toCompletableFuture(single);
     }
+
+    @Test
+    public void shouldEmitCompletedFutureWithoutListener() {
+        Single<String> single = FutureConverter.toSingle(CompletableFuture.completedFuture(VALUE), command -> {
+            throw new AssertionError("Listener should not be used");
+        });
+
+        single.test().assertResult(VALUE);
+    }
 }
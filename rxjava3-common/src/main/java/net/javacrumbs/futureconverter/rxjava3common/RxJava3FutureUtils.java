@@ -0,0 +1,352 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.rxjava3common;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleObserver;
+import io.reactivex.rxjava3.disposables.Disposable;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class RxJava3FutureUtils {
+    public static <T> Single<T> createSingle(ValueSource<T> valueSource) {
+        ValueSource<T> root = valueSource.getRoot();
+        if (root instanceof SingleBackedValueSource) {
+            return ((SingleBackedValueSource<T>) root).getSingle();
+        }
+        return new ValueSourceBackedSingle<>(valueSource);
+    }
+
+    public static <T> ValueSource<T> createValueSource(Single<T> single) {
+        return createValueSource(single, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(Single<T> single, Executor executor) {
+        // ValueSource of ValueSourceBackedSingle is returned only if it's a Future, other value sources
+        // may not support more listeners. We can still get to them using getRoot().
+        if (single instanceof ValueSourceBackedSingle &&
+            ((ValueSourceBackedSingle<T>) single).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedSingle<T>) single).getValueSource(), executor);
+        } else {
+            return new SingleBackedValueSource<>(single, executor);
+        }
+    }
+
+    /**
+     * Subscribes to the Single when the listener is added. This object is the observer, so the conversion
+     * does not allocate the observer and the disposable.
+     */
+    private static class SingleBackedValueSource<T> implements ValueSource<T>, SingleObserver<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<SingleBackedValueSource, Object> SUBSCRIPTION =
+            AtomicReferenceFieldUpdater.newUpdater(SingleBackedValueSource.class, Object.class, "subscription");
+
+        private static final Object SUBSCRIBING = new Object();
+        private static final Object CANCELLED = new Object();
+        private static final Object DONE = new Object();
+
+        private final Single<T> single;
+        private final Executor executor;
+        private Listener<T> listener;
+
+        /**
+         * null before subscription, SUBSCRIBING until we get the Disposable, the Disposable when subscribed,
+         * CANCELLED if cancelled before or after subscription and DONE when completed.
+         */
+        private volatile Object subscription;
+
+        private SingleBackedValueSource(Single<T> single, Executor executor) {
+            this.single = single;
+            this.executor = executor;
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            if (SUBSCRIPTION.compareAndSet(this, null, SUBSCRIBING)) {
+                listener = ExecutorListener.wrap(originalListener, executor);
+                single.subscribe(this);
+            } else if (subscription != CANCELLED) {
+                throw new IllegalStateException("add callbacks can be called only once");
+            }
+        }
+
+        /**
+         * Cancel before subscription prevents the subscription, cancel after completion does nothing.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            while (true) {
+                Object currentSubscription = subscription;
+                if (currentSubscription == CANCELLED || currentSubscription == DONE) {
+                    return false;
+                }
+                if (SUBSCRIPTION.compareAndSet(this, currentSubscription, CANCELLED)) {
+                    if (currentSubscription instanceof Disposable) {
+                        ((Disposable) currentSubscription).dispose();
+                    }
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+            if (!SUBSCRIPTION.compareAndSet(this, SUBSCRIBING, disposable)) {
+                // cancelled while subscribing
+                disposable.dispose();
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            if (SUBSCRIPTION.getAndSet(this, DONE) != CANCELLED) {
+                listener.onSuccess(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (SUBSCRIPTION.getAndSet(this, DONE) != CANCELLED) {
+                listener.onFailure(e);
+            }
+        }
+
+        @Override
+        public ValueSource<T> getRoot() {
+            if (single instanceof ValueSourceBackedSingle) {
+                return ((ValueSourceBackedSingle<T>) single).getValueSource().getRoot();
+            } else {
+                return this;
+            }
+        }
+
+        private Single<T> getSingle() {
+            return single;
+        }
+    }
+
+    /**
+     * Registers only one listener on the value source no matter how many times it is subscribed to. The result is
+     * cached and replayed to all the subscribers, so the Single can be retried or zipped even if the value source
+     * supports only one listener. The value source is cancelled when the last subscriber disposes.
+     */
+    private static class ValueSourceBackedSingle<T> extends Single<T> implements ValueSource.Listener<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ValueSourceBackedSingle, Object> STATE =
+            AtomicReferenceFieldUpdater.newUpdater(ValueSourceBackedSingle.class, Object.class, "state");
+
+        private static final Object CANCELLED = new Object();
+
+        private final ValueSource<T> valueSource;
+
+        /**
+         * null before the first subscription, array of subscribers while waiting for the result, {@link Result}
+         * when done and CANCELLED when all the subscribers have disposed before the value source completed.
+         */
+        private volatile Object state;
+
+        ValueSourceBackedSingle(ValueSource<T> valueSource) {
+            this.valueSource = valueSource;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void subscribeActual(SingleObserver<? super T> observer) {
+            ValueSourceDisposable<T> disposable = new ValueSourceDisposable<>(observer, this);
+            // onSubscribe has to be called first, the value source may already be completed
+            observer.onSubscribe(disposable);
+            // completed value source is emitted right away, there is nothing to listen to and nothing to cancel
+            switch (valueSource.getState()) {
+                case SUCCESS:
+                    disposable.emitSuccess(valueSource.getValue());
+                    return;
+                case FAILURE:
+                case CANCELLED:
+                    disposable.emitFailure(valueSource.getFailure());
+                    return;
+                default:
+            }
+            while (!disposable.isDisposed()) {
+                Object currentState = state;
+                if (currentState instanceof Result) {
+                    disposable.emit((Result<T>) currentState);
+                    return;
+                } else if (currentState == CANCELLED) {
+                    disposable.emit(new Result<>(null, new CancellationException()));
+                    return;
+                }
+                ValueSourceDisposable<T>[] subscribers = (ValueSourceDisposable<T>[]) currentState;
+                if (STATE.compareAndSet(this, currentState, add(subscribers, disposable))) {
+                    if (subscribers == null) {
+                        valueSource.addListener(this);
+                    }
+                    // disposed before it was added, dispose did not find it and did not remove it
+                    if (disposable.isDisposed()) {
+                        remove(disposable);
+                    }
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void onSuccess(T value) {
+            complete(new Result<>(value, null));
+        }
+
+        @Override
+        public void onFailure(Throwable failure) {
+            complete(new Result<>(null, failure));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Result<T> result) {
+            while (true) {
+                Object currentState = state;
+                if (!(currentState instanceof ValueSourceDisposable[])) {
+                    return;
+                }
+                if (STATE.compareAndSet(this, currentState, result)) {
+                    for (ValueSourceDisposable<T> subscriber : (ValueSourceDisposable<T>[]) currentState) {
+                        subscriber.emit(result);
+                    }
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Cancels the value source if the last subscriber is removed.
+         */
+        @SuppressWarnings("unchecked")
+        private void remove(ValueSourceDisposable<T> disposable) {
+            while (true) {
+                Object currentState = state;
+                if (!(currentState instanceof ValueSourceDisposable[])) {
+                    return;
+                }
+                ValueSourceDisposable<T>[] subscribers = (ValueSourceDisposable<T>[]) currentState;
+                ValueSourceDisposable<T>[] newSubscribers = remove(subscribers, disposable);
+                if (newSubscribers == subscribers) {
+                    return;
+                }
+                Object newState = newSubscribers.length == 0 ? CANCELLED : newSubscribers;
+                if (STATE.compareAndSet(this, currentState, newState)) {
+                    if (newState == CANCELLED) {
+                        valueSource.cancel(true);
+                    }
+                    return;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ValueSourceDisposable<T>[] add(ValueSourceDisposable<T>[] subscribers, ValueSourceDisposable<T> disposable) {
+            if (subscribers == null) {
+                return new ValueSourceDisposable[]{disposable};
+            }
+            ValueSourceDisposable<T>[] result = Arrays.copyOf(subscribers, subscribers.length + 1);
+            result[subscribers.length] = disposable;
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ValueSourceDisposable<T>[] remove(ValueSourceDisposable<T>[] subscribers, ValueSourceDisposable<T> disposable) {
+            for (int i = 0; i < subscribers.length; i++) {
+                if (subscribers[i] == disposable) {
+                    ValueSourceDisposable<T>[] result = new ValueSourceDisposable[subscribers.length - 1];
+                    System.arraycopy(subscribers, 0, result, 0, i);
+                    System.arraycopy(subscribers, i + 1, result, i, subscribers.length - i - 1);
+                    return result;
+                }
+            }
+            return subscribers;
+        }
+
+        private ValueSource<T> getValueSource() {
+            return valueSource;
+        }
+    }
+
+    private static final class ValueSourceDisposable<T> implements Disposable {
+        private final SingleObserver<? super T> observer;
+        private final ValueSourceBackedSingle<T> parent;
+        private volatile boolean disposed = false;
+
+        private ValueSourceDisposable(SingleObserver<? super T> observer, ValueSourceBackedSingle<T> parent) {
+            this.observer = observer;
+            this.parent = parent;
+        }
+
+        private void emit(Result<T> result) {
+            if (result.failure == null) {
+                emitSuccess(result.value);
+            } else {
+                emitFailure(result.failure);
+            }
+        }
+
+        private void emitSuccess(T value) {
+            if (!disposed) {
+                try {
+                    observer.onSuccess(value);
+                } catch (Throwable e) {
+                    observer.onError(e);
+                }
+            }
+        }
+
+        private void emitFailure(Throwable failure) {
+            if (!disposed) {
+                observer.onError(failure);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                parent.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    private static final class Result<T> {
+        private final T value;
+        private final Throwable failure;
+
+        private Result(T value, Throwable failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+    }
+}
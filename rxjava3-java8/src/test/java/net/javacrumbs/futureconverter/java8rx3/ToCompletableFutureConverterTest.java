@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.java8rx3;
+
+import io.reactivex.rxjava3.core.Single;
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.test.java8.Java8ConvertedFutureTestHelper;
+import net.javacrumbs.futureconverter.common.test.rxjava3.AbstractSingleToFutureConverterTest;
+import net.javacrumbs.futureconverter.rxjava3common.RxJava3FutureUtils;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ToCompletableFutureConverterTest extends AbstractSingleToFutureConverterTest<CompletableFuture<String>> {
+    public ToCompletableFutureConverterTest() {
+        super(new Java8ConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected CompletableFuture<String> toFuture(Single<String> single) {
+        return FutureConverter.toCompletableFuture(single);
+    }
+
+    @Override
+    protected Single<String> toSingle(CompletableFuture<String> future) {
+        return FutureConverter.toSingle(future);
+    }
+
+    @Test
+    public void cancelBeforeSubscriptionShouldPreventIt() {
+        AtomicInteger subscribed = new AtomicInteger();
+        ValueSource<String> valueSource = RxJava3FutureUtils.createValueSource(Single.<String>never().doOnSubscribe(d -> subscribed.incrementAndGet()));
+
+        assertTrue(valueSource.cancel(true));
+        valueSource.addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertEquals(0, subscribed.get());
+        assertFalse(valueSource.cancel(true));
+    }
+
+    @Test
+    public void cancelWhileSubscribingShouldDispose() {
+        AtomicReference<ValueSource<String>> valueSource = new AtomicReference<>();
+        AtomicBoolean disposed = new AtomicBoolean();
+        Single<String> single = Single.<String>never()
+            .doOnDispose(() -> disposed.set(true))
+            .doOnSubscribe(d -> valueSource.get().cancel(true));
+        valueSource.set(RxJava3FutureUtils.createValueSource(single));
+
+        valueSource.get().addCallbacks(value -> fail("Value not expected"), failure -> fail("Failure not expected"));
+
+        assertTrue(disposed.get());
+        assertFalse(valueSource.get().cancel(true));
+    }
+}
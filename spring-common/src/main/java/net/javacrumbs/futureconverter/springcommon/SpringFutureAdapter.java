@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.springcommon;
+
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
+import net.javacrumbs.futureconverter.common.spi.FutureAdapter;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Registers Spring ListenableFuture conversions for {@link java.util.ServiceLoader}.
+ */
+public class SpringFutureAdapter implements FutureAdapter {
+    @Override
+    public Class<?> getFutureType() {
+        return ListenableFuture.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ValueSource<T> createValueSource(Object future) {
+        return SpringFutureUtils.createValueSourceFuture((ListenableFuture<T>) future);
+    }
+
+    @Override
+    public <T> Object createFuture(ValueSource<T> valueSource) {
+        if (valueSource instanceof ValueSourceFuture) {
+            return SpringFutureUtils.createListenableFuture((ValueSourceFuture<T>) valueSource);
+        } else {
+            return SpringFutureUtils.createListenableFuture(valueSource);
+        }
+    }
+}
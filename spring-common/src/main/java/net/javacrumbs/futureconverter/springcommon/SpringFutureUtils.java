@@ -15,129 +15,165 @@
  */
 package net.javacrumbs.futureconverter.springcommon;
 
-import net.javacrumbs.futureconverter.common.internal.FutureWrapper;
+import net.javacrumbs.futureconverter.common.CallbackExecutors;
+import net.javacrumbs.futureconverter.common.internal.ExecutorListener;
+import net.javacrumbs.futureconverter.common.internal.ExecutorValueSourceFuture;
+import net.javacrumbs.futureconverter.common.internal.MultiplexingFutureWrapper;
 import net.javacrumbs.futureconverter.common.internal.ValueSource;
 import net.javacrumbs.futureconverter.common.internal.ValueSourceFuture;
 import org.springframework.util.concurrent.FailureCallback;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
-import org.springframework.util.concurrent.SettableListenableFuture;
 import org.springframework.util.concurrent.SuccessCallback;
 
-import java.util.function.Consumer;
+import java.util.concurrent.Executor;
 
 
 public class SpringFutureUtils {
     // *************************************** Converting to ListenableFuture ******************************************
 
+    @SuppressWarnings("unchecked")
     public static <T> ListenableFuture<T> createListenableFuture(ValueSourceFuture<T> valueSource) {
-        if (valueSource instanceof ListenableFutureBackedValueSourceFuture) {
-            return ((ListenableFutureBackedValueSourceFuture<T>) valueSource).getWrappedFuture();
+        ListenableFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSource, ListenableFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceFutureBackedListenableFuture<>(valueSource);
         }
     }
 
+    @SuppressWarnings("unchecked")
     public static <T> ListenableFuture<T> createListenableFuture(ValueSource<T> valueSource) {
-        if (valueSource instanceof ListenableFutureBackedValueSourceFuture) {
-            return ((ListenableFutureBackedValueSourceFuture<T>) valueSource).getWrappedFuture();
+        ListenableFuture<T> originalFuture = ValueSourceFuture.getOriginalFuture(valueSource, ListenableFuture.class);
+        if (originalFuture != null) {
+            return originalFuture;
         } else {
             return new ValueSourceBackedListenableFuture<>(valueSource);
         }
     }
 
     /**
-     * ListenableFuture that delegates all the work to ValueSourceFuture.
+     * ListenableFuture that delegates all the work to ValueSourceFuture. Only one listener is registered on
+     * the ValueSourceFuture no matter how many callbacks are added.
      */
-    private static class ValueSourceFutureBackedListenableFuture<T> extends FutureWrapper<T> implements ListenableFuture<T> {
+    private static class ValueSourceFutureBackedListenableFuture<T> extends MultiplexingFutureWrapper<T> implements ListenableFuture<T> {
         private ValueSourceFutureBackedListenableFuture(ValueSourceFuture<T> valueSourceFuture) {
             super(valueSourceFuture);
         }
 
         @Override
         public void addCallback(ListenableFutureCallback<? super T> callback) {
-            getWrappedFuture().addCallbacks(callback::onSuccess, callback::onFailure);
+            addCallback(callback, callback);
         }
 
         @Override
         public void addCallback(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
-            getWrappedFuture().addCallbacks(successCallback::onSuccess, failureCallback::onFailure);
+            ValueSourceFuture<T> valueSourceFuture = getWrappedFuture();
+            switch (valueSourceFuture.getState()) {
+                case SUCCESS:
+                    successCallback.onSuccess(valueSourceFuture.getValue());
+                    break;
+                case FAILURE:
+                case CANCELLED:
+                    failureCallback.onFailure(valueSourceFuture.getFailure());
+                    break;
+                default:
+                    addListenerNode(new CallbackListenerNode<>(successCallback, failureCallback));
+            }
         }
 
         @Override
         protected ValueSourceFuture<T> getWrappedFuture() {
-            return (ValueSourceFuture<T>) super.getWrappedFuture();
+            return super.getWrappedFuture();
         }
     }
 
+    private static class CallbackListenerNode<T> extends MultiplexingFutureWrapper.ListenerNode<T> {
+        private final SuccessCallback<? super T> successCallback;
+        private final FailureCallback failureCallback;
 
-    /**
-     * If we only get ValueSource we have to create a ValueSourceFuture. Here we wrap Spring SettableListenableFuture
-     * and use it for listener handling and value storage.
-     */
-    private static class ValueSourceBackedListenableFuture<T> extends FutureWrapper<T> implements ListenableFuture<T> {
-        private final ValueSource<T> valueSource;
-
-        private ValueSourceBackedListenableFuture(ValueSource<T> valueSource) {
-            super(new SettableListenableFuture<>());
-            this.valueSource = valueSource;
-            valueSource.addCallbacks(value -> getWrappedFuture().set(value), ex -> getWrappedFuture().setException(ex));
+        private CallbackListenerNode(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
+            this.successCallback = successCallback;
+            this.failureCallback = failureCallback;
         }
 
-
         @Override
-        protected SettableListenableFuture<T> getWrappedFuture() {
-            return (SettableListenableFuture<T>) super.getWrappedFuture();
+        public void onSuccess(T value) {
+            successCallback.onSuccess(value);
         }
 
         @Override
-        public boolean cancel(boolean mayInterruptIfRunning) {
-            valueSource.cancel(mayInterruptIfRunning);
-            return super.cancel(mayInterruptIfRunning);
-        }
-
-        private ValueSource<T> getValueSource() {
-            return valueSource;
-        }
-
-        @Override
-        public void addCallback(ListenableFutureCallback<? super T> callback) {
-            getWrappedFuture().addCallback(callback);
-        }
-
-        @Override
-        public void addCallback(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
-            getWrappedFuture().addCallback(successCallback, failureCallback);
+        public void onFailure(Throwable failure) {
+            failureCallback.onFailure(failure);
         }
     }
 
+
     // *************************************** Converting from ListenableFuture ******************************************
 
     public static <T> ValueSourceFuture<T> createValueSourceFuture(ListenableFuture<T> listenableFuture) {
+        return createValueSourceFuture(listenableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSourceFuture that notifies its listeners using the executor.
+     */
+    public static <T> ValueSourceFuture<T> createValueSourceFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         if (listenableFuture instanceof ValueSourceFutureBackedListenableFuture) {
-            return ((ValueSourceFutureBackedListenableFuture<T>) listenableFuture).getWrappedFuture();
+            return ExecutorValueSourceFuture.wrap(((ValueSourceFutureBackedListenableFuture<T>) listenableFuture).getWrappedFuture(), executor);
+        } else if (listenableFuture instanceof ValueSourceBackedListenableFuture &&
+            ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource() instanceof ValueSourceFuture) {
+            return ExecutorValueSourceFuture.wrap((ValueSourceFuture<T>) ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource(), executor);
         } else {
-            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture);
+            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture, executor);
         }
     }
 
     public static <T> ValueSource<T> createValueSource(ListenableFuture<T> listenableFuture) {
-        if (listenableFuture instanceof ValueSourceBackedListenableFuture) {
-            return ((ValueSourceBackedListenableFuture<T>) listenableFuture).getValueSource();
-        } else {
-            return new ListenableFutureBackedValueSourceFuture<>(listenableFuture);
-        }
+        return createValueSource(listenableFuture, CallbackExecutors.getDefaultExecutor());
+    }
+
+    /**
+     * Creates ValueSource that notifies its listeners using the executor.
+     */
+    public static <T> ValueSource<T> createValueSource(ListenableFuture<T> listenableFuture, Executor executor) {
+        // ValueSource of ValueSourceBackedListenableFuture is returned only if it's a Future, other value sources
+        // (RxJava Single) may not support more listeners. We can still get to them using getRoot().
+        return createValueSourceFuture(listenableFuture, executor);
     }
 
 
     private static class ListenableFutureBackedValueSourceFuture<T> extends ValueSourceFuture<T> {
-        private ListenableFutureBackedValueSourceFuture(ListenableFuture<T> wrappedFuture) {
+        private final Executor executor;
+
+        private ListenableFutureBackedValueSourceFuture(ListenableFuture<T> wrappedFuture, Executor executor) {
             super(wrappedFuture);
+            this.executor = executor;
+        }
+
+        @Override
+        public void addListener(Listener<T> originalListener) {
+            Listener<T> listener = ExecutorListener.wrap(originalListener, executor);
+            getWrappedFuture().addCallback(new ListenableFutureCallback<T>() {
+                @Override
+                public void onSuccess(T result) {
+                    listener.onSuccess(result);
+                }
+
+                @Override
+                public void onFailure(Throwable ex) {
+                    listener.onFailure(ex);
+                }
+            });
         }
 
         @Override
-        public void addCallbacks(Consumer<T> successCallback, Consumer<Throwable> failureCallback) {
-            getWrappedFuture().addCallback(successCallback::accept, failureCallback::accept);
+        public ValueSource<T> getRoot() {
+            if (getWrappedFuture() instanceof ValueSourceBackedListenableFuture) {
+                return ((ValueSourceBackedListenableFuture<T>) getWrappedFuture()).getValueSource().getRoot();
+            } else {
+                return this;
+            }
         }
 
         @Override
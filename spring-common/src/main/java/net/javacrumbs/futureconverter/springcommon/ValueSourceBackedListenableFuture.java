@@ -0,0 +1,356 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.springcommon;
+
+import net.javacrumbs.futureconverter.common.internal.ValueSource;
+import org.springframework.util.concurrent.FailureCallback;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SuccessCallback;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spring ListenableFuture that takes values from the ValueSource. We do not use SettableListenableFuture since it
+ * wraps FutureTask and synchronizes on callback registration. The whole state is kept in one atomic field
+ * which contains either stack of callbacks (future is running) or the result (future is done).
+ * Callbacks are pushed using CAS and called in registration order upon completion.
+ */
+class ValueSourceBackedListenableFuture<T> implements ListenableFuture<T>, ValueSource.Listener<T> {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ValueSourceBackedListenableFuture, Object> STATE =
+        AtomicReferenceFieldUpdater.newUpdater(ValueSourceBackedListenableFuture.class, Object.class, "state");
+
+    /**
+     * Represents successful null result.
+     */
+    private static final Object NIL = new Object();
+
+    private final ValueSource<T> valueSource;
+
+    /**
+     * null or {@link CallbackNode} when running, {@link Failure}, NIL or the value when done.
+     */
+    private volatile Object state;
+
+    ValueSourceBackedListenableFuture(ValueSource<T> valueSource) {
+        this.valueSource = valueSource;
+        switch (valueSource.getState()) {
+            case SUCCESS:
+                onSuccess(valueSource.getValue());
+                break;
+            case FAILURE:
+                onFailure(valueSource.getFailure());
+                break;
+            case CANCELLED:
+                complete(new Cancelled(new CancellationException()));
+                break;
+            default:
+                valueSource.addListener(this);
+        }
+    }
+
+    @Override
+    public void onSuccess(T value) {
+        complete(value != null ? value : NIL);
+    }
+
+    @Override
+    public void onFailure(Throwable failure) {
+        complete(new Failure(failure));
+    }
+
+    @Override
+    public void addCallback(ListenableFutureCallback<? super T> callback) {
+        addCallback(callback, callback);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addCallback(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
+        CallbackNode<T> node = null;
+        while (true) {
+            Object currentState = state;
+            if (isDone(currentState)) {
+                notifyCallback(successCallback, failureCallback, currentState);
+                return;
+            }
+            if (node == null) {
+                node = new CallbackNode<>(successCallback, failureCallback);
+            }
+            node.next = (CallbackNode<T>) currentState;
+            if (STATE.compareAndSet(this, currentState, node)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<T> completable() {
+        CallbackCompletableFuture<T> completable = new CallbackCompletableFuture<>(this);
+        addCallback(completable, completable);
+        return completable;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (isDone()) {
+            return false;
+        }
+        // cancel first, the value source may complete us while being cancelled
+        if (complete(new Cancelled(new CancellationException()))) {
+            valueSource.cancel(mayInterruptIfRunning);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return state instanceof Cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return isDone(state);
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        Object currentState = state;
+        if (!isDone(currentState)) {
+            currentState = awaitDone(false, 0L);
+        }
+        return report(currentState);
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        Object currentState = state;
+        if (!isDone(currentState)) {
+            currentState = awaitDone(true, unit.toNanos(timeout));
+            if (currentState == null) {
+                throw new TimeoutException();
+            }
+        }
+        return report(currentState);
+    }
+
+    ValueSource<T> getValueSource() {
+        return valueSource;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean complete(Object result) {
+        Object currentState;
+        do {
+            currentState = state;
+            if (isDone(currentState)) {
+                return false;
+            }
+        } while (!STATE.compareAndSet(this, currentState, result));
+        notifyCallbacks((CallbackNode<T>) currentState, result);
+        return true;
+    }
+
+    /**
+     * Callbacks are stored in a stack, we reverse it so they are called in the order of registration.
+     */
+    private void notifyCallbacks(CallbackNode<T> head, Object result) {
+        CallbackNode<T> reversed = null;
+        while (head != null) {
+            CallbackNode<T> next = head.next;
+            head.next = reversed;
+            reversed = head;
+            head = next;
+        }
+        for (CallbackNode<T> node = reversed; node != null; node = node.next) {
+            notifyCallback(node.successCallback, node.failureCallback, result);
+        }
+    }
+
+    /**
+     * Exceptions thrown from callbacks are ignored, same as in Spring ListenableFutureCallbackRegistry.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void notifyCallback(SuccessCallback<? super T> successCallback, FailureCallback failureCallback, Object result) {
+        try {
+            if (result instanceof Failure) {
+                failureCallback.onFailure(((Failure) result).exception);
+            } else {
+                successCallback.onSuccess(result != NIL ? (T) result : null);
+            }
+        } catch (Throwable ex) {
+            // ignore
+        }
+    }
+
+    /**
+     * Parks current thread until the future is done. Returns null if timed out.
+     */
+    private Object awaitDone(boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? System.nanoTime() + nanos : 0L;
+        Waiter waiter = null;
+        while (true) {
+            Object currentState = state;
+            if (isDone(currentState)) {
+                return currentState;
+            }
+            if (Thread.interrupted()) {
+                if (waiter != null) {
+                    removeWaiter(waiter);
+                }
+                throw new InterruptedException();
+            }
+            if (waiter == null) {
+                waiter = new Waiter();
+                addCallback(waiter, waiter);
+            } else if (timed) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0L) {
+                    removeWaiter(waiter);
+                    return null;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Unlinks the waiter of a timed out or interrupted get. Nodes in the stack are not modified, the stack is
+     * copied without the waiter and swapped using CAS so that it does not interfere with completion.
+     */
+    @SuppressWarnings("unchecked")
+    private void removeWaiter(Waiter waiter) {
+        while (true) {
+            Object currentState = state;
+            if (isDone(currentState)) {
+                return;
+            }
+            CallbackNode<T> head = null;
+            CallbackNode<T> tail = null;
+            boolean found = false;
+            for (CallbackNode<T> node = (CallbackNode<T>) currentState; node != null; node = node.next) {
+                if (node.successCallback == waiter) {
+                    found = true;
+                    continue;
+                }
+                CallbackNode<T> copy = new CallbackNode<>(node.successCallback, node.failureCallback);
+                if (tail == null) {
+                    head = copy;
+                } else {
+                    tail.next = copy;
+                }
+                tail = copy;
+            }
+            if (!found || STATE.compareAndSet(this, currentState, head)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T report(Object result) throws ExecutionException {
+        if (result instanceof Cancelled) {
+            throw (CancellationException) ((Failure) result).exception;
+        } else if (result instanceof Failure) {
+            throw new ExecutionException(((Failure) result).exception);
+        } else {
+            return result != NIL ? (T) result : null;
+        }
+    }
+
+    private static boolean isDone(Object state) {
+        return state != null && !(state instanceof CallbackNode);
+    }
+
+    private static final class CallbackNode<T> {
+        private final SuccessCallback<? super T> successCallback;
+        private final FailureCallback failureCallback;
+        // volatile, removeWaiter may traverse the stack while it's being reversed by notifyCallbacks
+        private volatile CallbackNode<T> next;
+
+        private CallbackNode(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
+            this.successCallback = successCallback;
+            this.failureCallback = failureCallback;
+        }
+    }
+
+    private static class Failure {
+        private final Throwable exception;
+
+        private Failure(Throwable exception) {
+            this.exception = exception;
+        }
+    }
+
+    private static final class Cancelled extends Failure {
+        private Cancelled(CancellationException exception) {
+            super(exception);
+        }
+    }
+
+    private static final class Waiter implements SuccessCallback<Object>, FailureCallback {
+        private final Thread thread = Thread.currentThread();
+
+        @Override
+        public void onSuccess(Object result) {
+            LockSupport.unpark(thread);
+        }
+
+        @Override
+        public void onFailure(Throwable ex) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * CompletableFuture returned from {@link #completable()}, it is registered as the callback itself.
+     */
+    private static final class CallbackCompletableFuture<T> extends CompletableFuture<T> implements SuccessCallback<T>, FailureCallback {
+        private final ListenableFuture<T> listenableFuture;
+
+        private CallbackCompletableFuture(ListenableFuture<T> listenableFuture) {
+            this.listenableFuture = listenableFuture;
+        }
+
+        @Override
+        public void onSuccess(T result) {
+            complete(result);
+        }
+
+        @Override
+        public void onFailure(Throwable ex) {
+            completeExceptionally(ex);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = listenableFuture.cancel(mayInterruptIfRunning);
+            super.cancel(mayInterruptIfRunning);
+            return result;
+        }
+    }
+}
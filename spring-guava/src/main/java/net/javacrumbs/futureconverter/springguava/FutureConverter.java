@@ -19,6 +19,8 @@ import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
 import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 
+import java.util.concurrent.Executor;
+
 /**
  * Converts between Guava {@link com.google.common.util.concurrent.ListenableFuture} and Spring 4 {@link org.springframework.util.concurrent.ListenableFuture}.
  */
@@ -31,6 +33,14 @@ public class FutureConverter {
         return SpringFutureUtils.createListenableFuture(GuavaFutureUtils.createValueSourceFuture(guavaListenableFuture));
     }
 
+    /**
+     * Converts Guava {@link com.google.common.util.concurrent.ListenableFuture} to Spring 4 {@link org.springframework.util.concurrent.ListenableFuture}
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toSpringListenableFuture(com.google.common.util.concurrent.ListenableFuture<T> guavaListenableFuture, Executor executor) {
+        return SpringFutureUtils.createListenableFuture(GuavaFutureUtils.createValueSourceFuture(guavaListenableFuture, executor));
+    }
+
     /**
      * Converts Spring 4 {@link org.springframework.util.concurrent.ListenableFuture}
      * to Guava {@link com.google.common.util.concurrent.ListenableFuture}.
@@ -38,4 +48,13 @@ public class FutureConverter {
     public static <T> com.google.common.util.concurrent.ListenableFuture<T> toGuavaListenableFuture(ListenableFuture<T> springListenableFuture) {
             return GuavaFutureUtils.createListenableFuture(SpringFutureUtils.createValueSourceFuture(springListenableFuture));
     }
+
+    /**
+     * Converts Spring 4 {@link org.springframework.util.concurrent.ListenableFuture}
+     * to Guava {@link com.google.common.util.concurrent.ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> com.google.common.util.concurrent.ListenableFuture<T> toGuavaListenableFuture(ListenableFuture<T> springListenableFuture, Executor executor) {
+        return GuavaFutureUtils.createListenableFuture(SpringFutureUtils.createValueSourceFuture(springListenableFuture, executor));
+    }
 }
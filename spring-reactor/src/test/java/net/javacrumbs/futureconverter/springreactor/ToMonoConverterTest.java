@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.springreactor;
+
+import net.javacrumbs.futureconverter.common.test.reactor.AbstractFutureToMonoConverterTest;
+import net.javacrumbs.futureconverter.common.test.spring.SpringOriginalFutureTestHelper;
+import org.springframework.util.concurrent.ListenableFuture;
+import reactor.core.publisher.Mono;
+
+public class ToMonoConverterTest extends AbstractFutureToMonoConverterTest<ListenableFuture<String>> {
+    public ToMonoConverterTest() {
+        super(new SpringOriginalFutureTestHelper());
+    }
+
+    @Override
+    protected Mono<String> toMono(ListenableFuture<String> future) {
+        return FutureConverter.toMono(future);
+    }
+
+    @Override
+    protected ListenableFuture<String> toFuture(Mono<String> mono) {
+        return FutureConverter.toListenableFuture(mono);
+    }
+}
@@ -20,6 +20,8 @@ import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 import rx.Single;
 
+import java.util.concurrent.Executor;
+
 public class FutureConverter {
 
     /**
@@ -30,6 +32,15 @@ public class FutureConverter {
         return RxJavaFutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture));
     }
 
+    /**
+     * Converts {@link ListenableFuture} to  {@link rx.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture, Executor executor) {
+        return RxJavaFutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
     /**
      * Converts  {@link rx.Single} to {@link ListenableFuture}.
      */
@@ -37,4 +48,12 @@ public class FutureConverter {
         return SpringFutureUtils.createListenableFuture(RxJavaFutureUtils.createValueSource(single));
     }
 
+    /**
+     * Converts  {@link rx.Single} to {@link ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single, Executor executor) {
+        return SpringFutureUtils.createListenableFuture(RxJavaFutureUtils.createValueSource(single, executor));
+    }
+
 }
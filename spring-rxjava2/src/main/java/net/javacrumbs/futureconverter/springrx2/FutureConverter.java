@@ -20,6 +20,8 @@ import net.javacrumbs.futureconverter.rxjava2common.RxJava2FutureUtils;
 import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 
+import java.util.concurrent.Executor;
+
 public class FutureConverter {
 
     /**
@@ -30,6 +32,15 @@ public class FutureConverter {
         return RxJava2FutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture));
     }
 
+    /**
+     * Converts {@link ListenableFuture} to  {@link io.reactivex.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture, Executor executor) {
+        return RxJava2FutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
     /**
      * Converts  {@link io.reactivex.Single} to {@link ListenableFuture}.
      */
@@ -37,4 +48,12 @@ public class FutureConverter {
         return SpringFutureUtils.createListenableFuture(RxJava2FutureUtils.createValueSource(single));
     }
 
+    /**
+     * Converts  {@link io.reactivex.Single} to {@link ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single, Executor executor) {
+        return SpringFutureUtils.createListenableFuture(RxJava2FutureUtils.createValueSource(single, executor));
+    }
+
 }
@@ -16,10 +16,26 @@
 package net.javacrumbs.futureconverter.springrx2;
 
 import io.reactivex.Single;
+import io.reactivex.subjects.SingleSubject;
 import net.javacrumbs.futureconverter.common.test.rxjava2.AbstractSingleToFutureConverterTest;
 import net.javacrumbs.futureconverter.common.test.spring.SpringConvertedFutureTestHelper;
+import org.junit.Test;
 import org.springframework.util.concurrent.ListenableFuture;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
 public class ToListenableFutureConverterTest extends AbstractSingleToFutureConverterTest<ListenableFuture<String>> {
 
     public ToListenableFutureConverterTest() {
@@ -35,4 +51,70 @@ public class ToListenableFutureConverterTest extends AbstractSingleToFutureConve
     protected Single<String> toSingle(ListenableFuture<String> future) {
         return FutureConverter.toSingle(future);
     }
+
+    @Test
+    public void shouldCallCallbacksInRegistrationOrder() {
+        SingleSubject<String> single = SingleSubject.create();
+        ListenableFuture<String> future = toFuture(single);
+        List<Integer> calls = new ArrayList<>();
+        future.addCallback(value -> calls.add(1), ex -> calls.add(-1));
+        future.addCallback(value -> calls.add(2), ex -> calls.add(-2));
+        future.addCallback(value -> calls.add(3), ex -> calls.add(-3));
+
+        single.onSuccess(VALUE);
+
+        assertEquals(asList(1, 2, 3), calls);
+    }
+
+    @Test
+    public void completableShouldFollowTheListenableFuture() throws ExecutionException, InterruptedException {
+        SingleSubject<String> single = SingleSubject.create();
+        CompletableFuture<String> completable = toFuture(single).completable();
+        assertFalse(completable.isDone());
+
+        single.onSuccess(VALUE);
+
+        assertEquals(VALUE, completable.get());
+    }
+
+    @Test
+    public void cancelOfCompletableShouldCancelTheListenableFuture() {
+        SingleSubject<String> single = SingleSubject.create();
+        ListenableFuture<String> future = toFuture(single);
+
+        assertTrue(future.completable().cancel(true));
+
+        assertTrue(future.isCancelled());
+        assertFalse(single.hasObservers());
+    }
+
+    @Test
+    public void timedOutAndInterruptedGetShouldNotAffectCallbacks() throws ExecutionException, InterruptedException {
+        SingleSubject<String> single = SingleSubject.create();
+        ListenableFuture<String> future = toFuture(single);
+        List<Integer> calls = new ArrayList<>();
+        future.addCallback(value -> calls.add(1), ex -> calls.add(-1));
+        for (int i = 0; i < 3; i++) {
+            try {
+                future.get(1, TimeUnit.MILLISECONDS);
+                fail("Exception expected");
+            } catch (TimeoutException e) {
+                // expected
+            }
+        }
+        future.addCallback(value -> calls.add(2), ex -> calls.add(-2));
+        Thread.currentThread().interrupt();
+        try {
+            future.get();
+            fail("Exception expected");
+        } catch (InterruptedException e) {
+            // expected
+        }
+        future.addCallback(value -> calls.add(3), ex -> calls.add(-3));
+
+        single.onSuccess(VALUE);
+
+        assertEquals(asList(1, 2, 3), calls);
+        assertEquals(VALUE, future.get());
+    }
 }
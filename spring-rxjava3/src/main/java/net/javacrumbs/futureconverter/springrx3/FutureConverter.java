@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.springrx3;
+
+import io.reactivex.rxjava3.core.Single;
+import net.javacrumbs.futureconverter.rxjava3common.RxJava3FutureUtils;
+import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.concurrent.Executor;
+
+public class FutureConverter {
+
+    /**
+     * Converts {@link ListenableFuture} to  {@link io.reactivex.rxjava3.core.Single}.
+     * The original future is canceled upon unsubscribe.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture) {
+        return RxJava3FutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture));
+    }
+
+    /**
+     * Converts {@link ListenableFuture} to  {@link io.reactivex.rxjava3.core.Single}.
+     * The original future is canceled upon unsubscribe.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> Single<T> toSingle(ListenableFuture<T> listenableFuture, Executor executor) {
+        return RxJava3FutureUtils.createSingle(SpringFutureUtils.createValueSource(listenableFuture, executor));
+    }
+
+    /**
+     * Converts  {@link io.reactivex.rxjava3.core.Single} to {@link ListenableFuture}.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single) {
+        return SpringFutureUtils.createListenableFuture(RxJava3FutureUtils.createValueSource(single));
+    }
+
+    /**
+     * Converts  {@link io.reactivex.rxjava3.core.Single} to {@link ListenableFuture}.
+     * Completion of the original future is delivered using the executor.
+     */
+    public static <T> ListenableFuture<T> toListenableFuture(Single<T> single, Executor executor) {
+        return SpringFutureUtils.createListenableFuture(RxJava3FutureUtils.createValueSource(single, executor));
+    }
+
+}
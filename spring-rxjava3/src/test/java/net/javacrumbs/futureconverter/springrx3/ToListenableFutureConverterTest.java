@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.springrx3;
+
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.subjects.SingleSubject;
+import net.javacrumbs.futureconverter.common.test.rxjava3.AbstractSingleToFutureConverterTest;
+import net.javacrumbs.futureconverter.common.test.spring.SpringConvertedFutureTestHelper;
+import org.junit.Test;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static java.util.Arrays.asList;
+import static net.javacrumbs.futureconverter.common.test.AbstractConverterTest.VALUE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ToListenableFutureConverterTest extends AbstractSingleToFutureConverterTest<ListenableFuture<String>> {
+
+    public ToListenableFutureConverterTest() {
+        super(new SpringConvertedFutureTestHelper());
+    }
+
+    @Override
+    protected ListenableFuture<String> toFuture(Single<String> single) {
+        return FutureConverter.toListenableFuture(single);
+    }
+
+    @Override
+    protected Single<String> toSingle(ListenableFuture<String> future) {
+        return FutureConverter.toSingle(future);
+    }
+
+    @Test
+    public void shouldCallCallbacksInRegistrationOrder() {
+        SingleSubject<String> single = SingleSubject.create();
+        ListenableFuture<String> future = toFuture(single);
+        List<Integer> calls = new ArrayList<>();
+        future.addCallback(value -> calls.add(1), ex -> calls.add(-1));
+        future.addCallback(value -> calls.add(2), ex -> calls.add(-2));
+        future.addCallback(value -> calls.add(3), ex -> calls.add(-3));
+
+        single.onSuccess(VALUE);
+
+        assertEquals(asList(1, 2, 3), calls);
+    }
+
+    @Test
+    public void completableShouldFollowTheListenableFuture() throws ExecutionException, InterruptedException {
+        SingleSubject<String> single = SingleSubject.create();
+        CompletableFuture<String> completable = toFuture(single).completable();
+        assertFalse(completable.isDone());
+
+        single.onSuccess(VALUE);
+
+        assertEquals(VALUE, completable.get());
+    }
+
+    @Test
+    public void cancelOfCompletableShouldCancelTheListenableFuture() {
+        SingleSubject<String> single = SingleSubject.create();
+        ListenableFuture<String> future = toFuture(single);
+
+        assertTrue(future.completable().cancel(true));
+
+        assertTrue(future.isCancelled());
+        assertFalse(single.hasObservers());
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.universal;
+
+import io.reactivex.Single;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.rxjava2common.RxJava2FutureUtils;
+
+/**
+ * Converts {@link UniversalFuture} to RxJava 2 {@link Single}. Kept apart from UniversalFuture, so that only users
+ * of this class need future-converter-rxjava2-common on the classpath.
+ */
+public final class RxJava2Singles {
+    private RxJava2Singles() {
+    }
+
+    /**
+     * Converts to RxJava 2 {@link Single}. The Single is created only once per future. The future is canceled
+     * upon dispose.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Single<T> toSingle(UniversalFuture<T> future) {
+        Single<T> single = (Single<T>) future.rxJava2Single;
+        if (single == null) {
+            single = RxJava2FutureUtils.createSingle(Java8FutureUtils.createValueSource(future));
+            future.rxJava2Single = single;
+        }
+        return single;
+    }
+}
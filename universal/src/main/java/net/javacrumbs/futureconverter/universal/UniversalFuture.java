@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.universal;
+
+import com.google.api.core.ApiFuture;
+import org.springframework.util.concurrent.FailureCallback;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+import org.springframework.util.concurrent.SuccessCallback;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * CompletableFuture that is at the same time Guava {@link com.google.common.util.concurrent.ListenableFuture},
+ * Spring {@link org.springframework.util.concurrent.ListenableFuture} and {@link ApiFuture}. If a producer returns
+ * it, no conversion is needed, FutureConverters of all the modules recognize it and return it unchanged.
+ */
+public class UniversalFuture<T> extends CompletableFuture<T> implements
+        com.google.common.util.concurrent.ListenableFuture<T>,
+        org.springframework.util.concurrent.ListenableFuture<T>,
+        ApiFuture<T> {
+
+    /**
+     * Singles cached by {@link RxJavaSingles} and {@link RxJava2Singles}. Typed as Object, so that RxJava
+     * does not have to be on the classpath of UniversalFuture users.
+     */
+    volatile Object rxJavaSingle;
+    volatile Object rxJava2Single;
+
+    public UniversalFuture() {
+    }
+
+    /**
+     * Guava and ApiFuture listener registration.
+     */
+    @Override
+    public void addListener(Runnable listener, Executor executor) {
+        whenComplete((value, failure) -> executor.execute(listener));
+    }
+
+    @Override
+    public void addCallback(ListenableFutureCallback<? super T> callback) {
+        addCallback(callback, callback);
+    }
+
+    @Override
+    public void addCallback(SuccessCallback<? super T> successCallback, FailureCallback failureCallback) {
+        whenComplete((value, failure) -> {
+            if (failure == null) {
+                successCallback.onSuccess(value);
+            } else {
+                failureCallback.onFailure(failure);
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<T> completable() {
+        return this;
+    }
+
+    /**
+     * Overrides CompletableFuture method from Java 9, so dependent stages are UniversalFutures as well.
+     */
+    public <U> CompletableFuture<U> newIncompleteFuture() {
+        return new UniversalFuture<>();
+    }
+}
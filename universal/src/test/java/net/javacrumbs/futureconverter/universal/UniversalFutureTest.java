@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2014-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package net.javacrumbs.futureconverter.universal;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import net.javacrumbs.futureconverter.apifuturecommon.ApiFutureUtils;
+import net.javacrumbs.futureconverter.guavacommon.GuavaFutureUtils;
+import net.javacrumbs.futureconverter.java8common.Java8FutureUtils;
+import net.javacrumbs.futureconverter.springcommon.SpringFutureUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UniversalFutureTest {
+    private static final String VALUE = "test";
+
+    private final UniversalFuture<String> future = new UniversalFuture<>();
+
+    @Test
+    public void convertersShouldReturnTheSameFuture() {
+        assertSame(future, GuavaFutureUtils.createListenableFuture(Java8FutureUtils.createValueSourceFuture(future)));
+        assertSame(future, SpringFutureUtils.createListenableFuture(Java8FutureUtils.createValueSourceFuture(future)));
+        assertSame(future, ApiFutureUtils.createApiFuture(Java8FutureUtils.createValueSourceFuture(future)));
+        assertSame(future, Java8FutureUtils.createCompletableFuture(GuavaFutureUtils.createValueSourceFuture(future)));
+        assertSame(future, Java8FutureUtils.createCompletableFuture(SpringFutureUtils.createValueSource(future)));
+        assertSame(future, GuavaFutureUtils.createListenableFuture(ApiFutureUtils.createValueSourceFuture(future)));
+    }
+
+    @Test
+    public void shouldNotifyListenersAndCallbacks() {
+        List<Object> events = new ArrayList<>();
+        future.addListener(() -> events.add("listener"), MoreExecutors.directExecutor());
+        future.addCallback(events::add, events::add);
+
+        future.complete(VALUE);
+
+        assertEquals(2, events.size());
+        assertTrue(events.contains("listener"));
+        assertTrue(events.contains(VALUE));
+    }
+
+    @Test
+    public void shouldPassFailureToCallback() {
+        List<Throwable> failures = new ArrayList<>();
+        RuntimeException exception = new RuntimeException("test");
+        future.addCallback(value -> {
+        }, failures::add);
+
+        future.completeExceptionally(exception);
+
+        assertEquals(1, failures.size());
+        assertSame(exception, failures.get(0));
+    }
+
+    @Test
+    public void completableShouldReturnTheSameFuture() {
+        assertSame(future, future.completable());
+    }
+
+    @Test
+    public void shouldCacheSingles() {
+        assertSame(RxJavaSingles.toSingle(future), RxJavaSingles.toSingle(future));
+        assertSame(RxJava2Singles.toSingle(future), RxJava2Singles.toSingle(future));
+
+        future.complete(VALUE);
+
+        assertEquals(VALUE, RxJavaSingles.toSingle(future).toBlocking().value());
+        assertEquals(VALUE, RxJava2Singles.toSingle(future).blockingGet());
+    }
+}